@@ -27,6 +27,16 @@ def get_stocks() -> list[Stock]:
     return stocks
 
 
+def get_stocks_by_ids(stock_ids: list[uuid.UUID]) -> list[Stock]:
+    logger.info(f"Attempting to fetch {len(stock_ids)} candidate stocks from the backend API.")
+    url = f"{BACKEND_API_URL}/stocks"
+    params = {"ids": [str(stock_id) for stock_id in stock_ids], "size": len(stock_ids)}
+    response = requests.get(url, params=params)
+    response.raise_for_status()
+
+    return [Stock(**stock) for stock in response.json()]
+
+
 def send_article_stock_impact(article_id: uuid.UUID, article_stock_impact: ArticleStockImpact) -> bool:
     logger.info(
         f"Notifying the backend API about stock {article_stock_impact.stock_id} impacting article {article_id} with {article_stock_impact.impact} impact due to reason '{article_stock_impact.reason}'."
@@ -57,3 +67,34 @@ def send_article_stock_impact(article_id: uuid.UUID, article_stock_impact: Artic
         return False
 
     return True
+
+
+def send_article_stock_impacts(article_id: uuid.UUID, article_stock_impacts: list[ArticleStockImpact]) -> bool:
+    logger.info(f"Notifying the backend API about {len(article_stock_impacts)} stock impacts of article {article_id}.")
+
+    request_body = {
+        "impacts": [
+            {
+                "article_id": str(article_id),
+                "stock_id": str(article_stock_impact.stock_id),
+                "impact": article_stock_impact.impact.name,
+                "reason": article_stock_impact.reason,
+            }
+            for article_stock_impact in article_stock_impacts
+        ]
+    }
+
+    url = f"{BACKEND_API_URL}/articles/stock-impacts/batch"
+    try:
+        response = requests.post(url, json=request_body)
+    except Exception as e:
+        logger.error(f"Failed to notify the backend API about {len(article_stock_impacts)} stock impacts of article {article_id}.")
+        logger.exception(e)
+        return False
+
+    if response.status_code > 399:
+        logger.error(f"Failed to notify the backend API about {len(article_stock_impacts)} stock impacts of article {article_id}.")
+        logger.warning(response.text)
+        return False
+
+    return True
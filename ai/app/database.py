@@ -56,10 +56,16 @@ def _initialize_schema():
             CREATE TABLE IF NOT EXISTS {TABLE_NAME} (
                 id TEXT PRIMARY KEY,
                 created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
-                article TEXT NOT NULL
+                article TEXT NOT NULL,
+                external_id TEXT
             )
         """
         )
+        _add_external_id_column(cursor)
+        cursor.execute(
+            f"CREATE UNIQUE INDEX IF NOT EXISTS ux_{TABLE_NAME}_external_id ON {TABLE_NAME} (external_id) "
+            "WHERE external_id IS NOT NULL"
+        )
         conn.commit()
         logger.info(f"Database schema verified. Table '{TABLE_NAME}' is ready at {DB_FILE_PATH}.")
     except sqlite3.Error as e:
@@ -72,6 +78,65 @@ def _initialize_schema():
             conn.close()
 
 
+def _add_external_id_column(cursor: sqlite3.Cursor):
+    """
+    Upgrades tables created before external_id had its own column. The column is filled from the stored
+    article JSON; of articles sharing an external id only the oldest keeps it, so the unique index can be built.
+    """
+    columns = {row[1] for row in cursor.execute(f"PRAGMA table_info({TABLE_NAME})")}
+    if "external_id" in columns:
+        return
+    cursor.execute(f"ALTER TABLE {TABLE_NAME} ADD COLUMN external_id TEXT")
+    cursor.execute(f"UPDATE {TABLE_NAME} SET external_id = json_extract(article, '$.external_id')")
+    cursor.execute(
+        f"""
+        UPDATE {TABLE_NAME} SET external_id = NULL
+        WHERE external_id IS NOT NULL AND EXISTS (
+            SELECT 1 FROM {TABLE_NAME} older
+            WHERE older.external_id = {TABLE_NAME}.external_id
+              AND (older.created_at, older.id) < ({TABLE_NAME}.created_at, {TABLE_NAME}.id)
+        )
+    """
+    )
+    logger.info(f"Added external_id column to '{TABLE_NAME}'.")
+
+
+def get_or_create_article(content: ArticleContent) -> tuple[Article, bool]:
+    """
+    Stores the article unless one with the same external id already exists, so a backend retrying a delivery whose
+    response was lost does not create (and analyze) the article twice.
+
+    :return: the stored article and whether it was created by this call
+    """
+    if content.external_id is not None:
+        existing = get_article_by_external_id(content.external_id)
+        if existing is not None:
+            return existing, False
+    try:
+        return create_article(content), True
+    except sqlite3.IntegrityError:
+        existing = get_article_by_external_id(content.external_id) if content.external_id is not None else None
+        if existing is None:
+            raise
+        return existing, False
+
+
+def get_article_by_external_id(external_id: UUID) -> Article | None:
+    conn = None
+    try:
+        conn = _get_db_connection()
+        cursor = conn.cursor()
+        cursor.execute(f"SELECT article FROM {TABLE_NAME} WHERE external_id = ?", (str(external_id),))
+        row = cursor.fetchone()
+        return Article.model_validate_json(row[0]) if row else None
+    except sqlite3.Error as e:
+        logger.error(f"SQLite error fetching article with external id {external_id}: {e}")
+        raise
+    finally:
+        if conn:
+            conn.close()
+
+
 def create_article(content: ArticleContent) -> Article:
     article_id = uuid7()
     article = Article(
@@ -83,12 +148,15 @@ def create_article(content: ArticleContent) -> Article:
     try:
         conn = _get_db_connection()
         cursor = conn.cursor()
-        cursor.execute(f"INSERT INTO {TABLE_NAME} (id, article) VALUES (?, ?)", (str(article.id), article_json))
+        cursor.execute(
+            f"INSERT INTO {TABLE_NAME} (id, article, external_id) VALUES (?, ?, ?)",
+            (str(article.id), article_json, str(content.external_id) if content.external_id is not None else None),
+        )
         conn.commit()
         logger.info(f"Article {article.id} created and stored in database.")
         return article
     except sqlite3.IntegrityError as e:
-        logger.error(f"SQLite integrity error (e.g. duplicate ID) creating article {article.id}: {e}")
+        logger.warning(f"SQLite integrity error (duplicate id or external id) creating article {article.id}: {e}")
         if conn:
             conn.rollback()
         raise
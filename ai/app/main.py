@@ -5,7 +5,7 @@ from fastapi import BackgroundTasks, FastAPI, HTTPException, Response
 
 from . import database, schemas
 from .commands.routes import router as commands_router
-from .schemas import Article, ArticleContent
+from .schemas import Article, ArticleBatch, ArticleBatchFailure, ArticleBatchResult, ArticleContent
 from .tasks import process_news
 
 # set DEBUG level of logs
@@ -25,8 +25,10 @@ def read_root() -> schemas.ApiResponse[dict]:
 @app.post("/articles")
 def process_article_endpoint(article_content: ArticleContent) -> schemas.ApiResponse[Article]:
     try:
-        article_db_obj = database.create_article(article_content)
+        article_db_obj, created = database.get_or_create_article(article_content)
         logger.info(f"Article {article_db_obj.id} received...")
+        if not created:
+            return schemas.ApiResponse(data=article_db_obj)
         process_news.send(str(article_db_obj.id))
         logger.info(f"Article {article_db_obj.id} received - task sent to queue for processing.")
         return schemas.ApiResponse(data=article_db_obj)
@@ -37,6 +39,27 @@ def process_article_endpoint(article_content: ArticleContent) -> schemas.ApiResp
         )
 
 
+@app.post("/articles/batch")
+def process_article_batch_endpoint(batch: ArticleBatch) -> schemas.ApiResponse[ArticleBatchResult]:
+    """
+    Stores and queues a batch of articles. Articles are handled independently: a failure of one
+    of them is reported in `failed` and does not affect the others. The endpoint is idempotent on
+    `external_id`: an article that was already stored is reported as accepted and not queued again.
+    """
+    result = ArticleBatchResult()
+    for article_content in batch.articles:
+        try:
+            article_db_obj, created = database.get_or_create_article(article_content)
+            if created:
+                process_news.send(str(article_db_obj.id))
+            result.accepted.append(article_content.external_id)
+        except Exception as e:
+            logger.exception(f"Failed to create article {article_content.external_id} or queue it for processing: {e}")
+            result.failed.append(ArticleBatchFailure(external_id=article_content.external_id, error=str(e)))
+    logger.info(f"Article batch received - {len(result.accepted)} queued, {len(result.failed)} failed.")
+    return schemas.ApiResponse(data=result)
+
+
 @app.get("/articles")
 def get_articles() -> schemas.ApiResponse[schemas.ArticleList]:
     try:
@@ -35,6 +35,24 @@ class ArticleContent(BaseModel):
     title: str
     description: str
     published_at: Optional[datetime] = None
+    candidate_stock_ids: Optional[list[uuid.UUID]] = None
+    """Stocks the backend found mentioned in the article. When set, only these stocks are analyzed."""
+
+
+class ArticleBatch(BaseModel):
+    articles: list[ArticleContent]
+
+
+class ArticleBatchFailure(BaseModel):
+    external_id: Optional[uuid.UUID] = None
+    error: str
+
+
+class ArticleBatchResult(BaseModel):
+    accepted: list[Optional[uuid.UUID]] = []
+    """External ids of articles that were stored and queued for processing."""
+
+    failed: list[ArticleBatchFailure] = []
 
 
 class ArticleStockImpactSeverity(str, Enum):
@@ -1,5 +1,7 @@
+import json
 import logging
 import os
+import threading
 import time
 import uuid
 
@@ -8,12 +10,12 @@ from dramatiq.brokers.rabbitmq import RabbitmqBroker
 from dramatiq.middleware import Middleware
 from dramatiq.rate_limits import BucketRateLimiter
 from dramatiq.rate_limits.backends import RedisBackend
-from pika import PlainCredentials
+from pika import BasicProperties, PlainCredentials
 
 from app import backend_api
-from app.database import get_article, update_article
+from app.database import get_article, get_or_create_article, update_article
 from app.indexer import llm as indexer_llm
-from app.schemas import ArticleStatus, ArticleStockImpact, LLMUsage
+from app.schemas import ArticleContent, ArticleStatus, ArticleStockImpact, LLMUsage
 
 if not logging.getLogger().handlers:
     logging.basicConfig(level=logging.INFO, format='%(asctime)s - %(name)s - %(levelname)s - %(message)s')
@@ -31,6 +33,11 @@ broker = RabbitmqBroker(
     credentials=PlainCredentials(os.getenv("RABBITMQ_USER"), os.getenv("RABBITMQ_PASSWORD")),
 )
 
+# "http" posts impacts to the backend API, "amqp" publishes them to BACKEND_IMPACT_QUEUE
+BACKEND_TRANSPORT = os.getenv("BACKEND_TRANSPORT", "http")
+BACKEND_IMPACT_QUEUE = os.getenv("BACKEND_IMPACT_QUEUE", "ai.article-impacts")
+_impact_channels = threading.local()
+
 REDIS_URL = f"redis://default:{os.getenv('REDIS_PASSWORD')}@{os.getenv('REDIS_HOST')}:{os.getenv('REDIS_PORT')}/"
 rate_limiter_backend = RedisBackend(url=REDIS_URL)
 # Up to 10 articles / minute
@@ -116,6 +123,50 @@ broker.add_middleware(HandleArticleProcessingFailureMiddleware())
 dramatiq.set_broker(broker)
 
 
+@dramatiq.actor(queue_name="ingest_article", max_retries=3, min_backoff=10_000)
+def ingest_article(article_content_data: dict):
+    """
+    Entry point for articles published by the backend over RabbitMQ; the queued counterpart of POST /articles.
+    """
+    article_content = ArticleContent(**article_content_data)
+    article_db_obj, created = get_or_create_article(article_content)
+    if not created:
+        logger.info(f"Dramatiq: Article {article_content.external_id} was already ingested as {article_db_obj.id}.")
+        return
+    process_news.send(str(article_db_obj.id))
+    logger.info(f"Dramatiq: Article {article_content.external_id} ingested as {article_db_obj.id} and queued for processing.")
+
+
+def publish_article_stock_impact(article_external_id: uuid.UUID, article_stock_impact: ArticleStockImpact) -> bool:
+    """
+    Publishes an impact to the backend's reply queue. The channel runs in confirm mode and the message is mandatory,
+    so a nack or an unroutable message raises and the notification is retried like a failed HTTP call.
+    """
+    body = {
+        "article_id": str(article_external_id),
+        "stock_id": str(article_stock_impact.stock_id),
+        "impact": article_stock_impact.impact.name,
+        "reason": article_stock_impact.reason,
+    }
+    try:
+        channel = getattr(_impact_channels, "channel", None)
+        if channel is None or channel.is_closed:
+            channel = broker.connection.channel()
+            channel.confirm_delivery()
+            _impact_channels.channel = channel
+        channel.basic_publish(
+            exchange="",
+            routing_key=BACKEND_IMPACT_QUEUE,
+            body=json.dumps(body).encode("utf-8"),
+            properties=BasicProperties(content_type="application/json", delivery_mode=2),
+            mandatory=True,
+        )
+    except Exception as e:
+        logger.error(f"Failed to publish impact of stock {article_stock_impact.stock_id} on article {article_external_id}: {e}")
+        return False
+    return True
+
+
 @dramatiq.actor(queue_name="process_news", max_retries=1, min_backoff=60_000)  # 1 minute
 def process_news(article_id_str: str):
     article_id = uuid.UUID(article_id_str)
@@ -140,7 +191,17 @@ def process_news(article_id_str: str):
 
     logger.info(f"Dramatiq: Started processing article {article_id}.")
     try:
-        stocks = backend_api.get_stocks()
+        candidate_stock_ids = article.content.candidate_stock_ids
+        if candidate_stock_ids is not None and len(candidate_stock_ids) == 0:
+            logger.info(f"Dramatiq: Article {article_id} mentions no stocks. Skipping analysis.")
+            article.status = ArticleStatus.completed
+            update_article(article)
+            return
+        if candidate_stock_ids:
+            stocks = backend_api.get_stocks_by_ids(candidate_stock_ids[:backend_api.MAXIMUM_STOCKS_TO_PROCESS_PER_ARTICLE])
+        else:
+            stocks = backend_api.get_stocks()
+        found_impacts: list[ArticleStockImpact] = []
         for impact_or_usage in indexer_llm.does_article_impact_stocks(article.content, stocks):
             if isinstance(impact_or_usage, LLMUsage):
                 logger.info(f"Dramatiq: LLM usage for article {article_id}: {impact_or_usage}")
@@ -148,14 +209,15 @@ def process_news(article_id_str: str):
 
             article_stock_impact: ArticleStockImpact = impact_or_usage
             article.impacted_stocks.append(article_stock_impact)
-
-            if article.external_id is None:
-                logger.info(
-                    f"Dramatiq: Article {article.id} has no external_id. Skipping notification for stock {article_stock_impact.stock_id}."
-                )
-                continue
-
-            notify_backend.send(str(article.external_id), article_stock_impact.model_dump(mode='json'))
+            found_impacts.append(article_stock_impact)
+
+        if article.external_id is None:
+            logger.info(f"Dramatiq: Article {article.id} has no external_id. Skipping notification.")
+        elif found_impacts:
+            notify_backend_batch.send(
+                str(article.external_id),
+                [article_stock_impact.model_dump(mode='json') for article_stock_impact in found_impacts],
+            )
 
         article.status = ArticleStatus.completed
         article.error_message = None
@@ -184,7 +246,10 @@ def notify_backend(article_external_id_str: str, article_stock_impact_data: dict
         f"Dramatiq: Attempting to notify backend for article {article_external_id}, stock {article_stock_impact.stock_id}."
     )
 
-    success = backend_api.send_article_stock_impact(article_external_id, article_stock_impact)
+    if BACKEND_TRANSPORT == "amqp":
+        success = publish_article_stock_impact(article_external_id, article_stock_impact)
+    else:
+        success = backend_api.send_article_stock_impact(article_external_id, article_stock_impact)
 
     if not success:
         raise Exception(
@@ -195,3 +260,32 @@ def notify_backend(article_external_id_str: str, article_stock_impact_data: dict
     logger.info(
         f"Dramatiq: Backend notification successful for article {article_external_id}, stock {article_stock_impact.stock_id}."
     )
+
+
+@dramatiq.actor(queue_name="notify_backend", max_retries=2, min_backoff=60_000)
+def notify_backend_batch(article_external_id_str: str, article_stock_impacts_data: list[dict]):
+    """
+    Reports every impact of an article at once: one POST /articles/stock-impacts/batch call over HTTP,
+    or one message per impact on the reply queue over AMQP.
+    """
+    article_external_id = uuid.UUID(article_external_id_str)
+    article_stock_impacts = [ArticleStockImpact(**data) for data in article_stock_impacts_data]
+
+    logger.info(
+        f"Dramatiq: Attempting to notify backend for article {article_external_id} about {len(article_stock_impacts)} stocks."
+    )
+
+    if BACKEND_TRANSPORT == "amqp":
+        success = all(
+            publish_article_stock_impact(article_external_id, article_stock_impact)
+            for article_stock_impact in article_stock_impacts
+        )
+    else:
+        success = backend_api.send_article_stock_impacts(article_external_id, article_stock_impacts)
+
+    if not success:
+        raise Exception(
+            f"Backend API notification indicated failure for article {article_external_id}. Task will be retried by Dramatiq."
+        )
+
+    logger.info(f"Dramatiq: Backend notification successful for article {article_external_id}.")
@@ -3,14 +3,15 @@ package com.example.backend.api;
 import com.example.backend.api.params.ArticleSearchParams;
 import com.example.backend.api.response.CustomApiResponse;
 import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.dto.article.ArticlePage;
+import com.example.backend.domain.dto.ArticleStockImpactBatchRequest;
+import com.example.backend.domain.dto.ArticleStockImpactBatchResult;
 import com.example.backend.domain.dto.ArticleStockImpactDto;
+import com.example.backend.domain.dto.ImpactNotificationJobDto;
 import com.example.backend.domain.service.article.ArticleService;
-import com.example.backend.domain.service.impact.ArticleStockImpactService;
-import com.example.backend.domain.service.user.UserService;
-import com.example.backend.domain.service.webpush.notification.WebPushNotificationService;
+import com.example.backend.domain.service.impact.ArticleStockImpactHandler;
 import com.example.backend.infrastructure.annotations.RequireNotEmptyEmail;
 import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
-import com.example.backend.infrastructure.database.entity.UserEntity;
 import com.example.backend.infrastructure.database.entity.enums.NotificationSeverity;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -28,6 +30,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import javax.print.attribute.standard.Severity;
+import java.net.URI;
 import java.security.Principal;
 import java.util.List;
 
@@ -36,20 +39,24 @@ import static com.example.backend.api.params.ArticleSearchParams.*;
 @Slf4j
 @RestController
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*", allowedHeaders = "*")
+@CrossOrigin(origins = "*", allowedHeaders = "*", exposedHeaders = ArticlesController.NEXT_CURSOR_HEADER)
 public class ArticlesController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     public static final String API_ARTICLES_PATH = "/articles";
     public static final String API_USER_ARTICLES_PATH = "/user/articles";
+    public static final String API_IMPACT_JOBS_PATH = API_ARTICLES_PATH + "/stock-impacts/jobs";
 
-    private final ArticleStockImpactService stockImpactService;
+    private final ArticleStockImpactHandler articleStockImpactHandler;
     private final ArticleService articleService;
-    private final UserService userService;
-    private final WebPushNotificationService webPushNotificationService;
+
+    @Value("${article.impact.notifications.async:true}")
+    private boolean asyncNotifications;
 
     @RequireNotEmptyEmail
     @Operation(
             summary = "Get all articles with optional filtering",
-            description = "Retrieves articles with support for various filter parameters",
+            description = "Retrieves articles with support for various filter parameters. " +
+                    "The " + NEXT_CURSOR_HEADER + " response header holds the cursor of the next page.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved articles",
                             content = @Content(mediaType = "application/json",
@@ -74,21 +81,30 @@ public class ArticlesController {
             @Parameter(description = "Filter by stock name")
             @RequestParam(name = PARAM_STOCK, required = false) String stockName,
 
-            @Parameter(description = "Page number for pagination")
+            @Parameter(description = "Page number for pagination, ignored when a cursor is given")
             @RequestParam(name = PARAM_PAGE, required = false, defaultValue = "0") Integer pageNumber,
 
             @Parameter(description = "Page size for pagination")
-            @RequestParam(name = "size", required = false, defaultValue = "10") Integer size
+            @RequestParam(name = "size", required = false, defaultValue = "10") Integer size,
+
+            @Parameter(description = "Cursor from the " + NEXT_CURSOR_HEADER + " header of the previous page")
+            @RequestParam(name = PARAM_CURSOR, required = false) String cursor
     ) {
-        return ResponseEntity.ok(articleService.findAllBySearchParams(new ArticleSearchParams(
-                generalSearch,
-                articleName,
-                dateFrom,
-                dateTo,
-                stockName,
-                pageNumber,
-                size
-        )));
+        try {
+            return withNextCursor(articleService.findAllBySearchParams(new ArticleSearchParams(
+                    generalSearch,
+                    articleName,
+                    dateFrom,
+                    dateTo,
+                    stockName,
+                    pageNumber,
+                    size,
+                    cursor
+            )));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid article search: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping(API_ARTICLES_PATH + "/slug/{slug}")
@@ -130,7 +146,8 @@ public class ArticlesController {
     @PostMapping(API_ARTICLES_PATH + "/{article_id}/stock-impacts")
     @Operation(
             summary = "Receive article sentiment data from AI module",
-            description = "Receives sentiment analysis results for a given article, sent from the AI module. The data is processed and stored for further use.",
+            description = "Receives sentiment analysis results for a given article, sent from the AI module. The data is processed and stored for further use. " +
+                    "In asynchronous mode the notifications are sent in the background and the response is 202 with a job to poll.",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     required = true,
                     description = "Sentiment data for a specific article",
@@ -141,6 +158,10 @@ public class ArticlesController {
                             description = "Sentiment data received and processed successfully",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = CustomApiResponse.class))),
+                    @ApiResponse(responseCode = "202",
+                            description = "Sentiment data stored, notifications queued",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomApiResponse.class))),
                     @ApiResponse(responseCode = "400", description = "Invalid request – malformed or missing data",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = CustomApiResponse.class))),
@@ -169,27 +190,18 @@ public class ArticlesController {
                 ));
             }
 
-            log.info("Processing impact for article {}: {}", articleId, request);
             request.setArticleId(articleId);
-           ArticleStockImpactEntity impact = stockImpactService.processImpact(request);
+            if (asyncNotifications) {
+                return accepted("Impact accepted", articleStockImpactHandler.accept(request));
+            }
+            ArticleStockImpactEntity impact = articleStockImpactHandler.handle(request);
 
-           if(impact.getImpact().equals(NotificationSeverity.NONE.getValue())) {
-                log.info("No significant impact detected for article {}", articleId);
+            if (impact.getImpact().equals(NotificationSeverity.NONE.getValue())) {
                 return ResponseEntity.ok().body(new CustomApiResponse(
                         "No significant impact detected", HttpStatus.OK.value(), impact
                 ));
             }
 
-            List<UserEntity> affectedUsers = userService.findAllByStocksId(request.getStockId());
-
-            log.info("Found {} affected users for stock ID {}", affectedUsers.size(), request.getStockId());
-            String payload = webPushNotificationService.prepareMessage(impact);
-
-            log.info("Prepared notification payload: {}", payload);
-
-            log.info("Sending notification to {} users", affectedUsers.size());
-            webPushNotificationService.notifyAll(affectedUsers, payload, NotificationSeverity.fromValue(impact.getImpact()));
-
             return ResponseEntity.ok().body(new CustomApiResponse(
                     "Article processed successful", HttpStatus.OK.value(), impact
             ));
@@ -201,6 +213,94 @@ public class ArticlesController {
         }
     }
 
+    @PostMapping(API_ARTICLES_PATH + "/stock-impacts/batch")
+    @Operation(
+            summary = "Receive stock impacts of one or more articles from AI module",
+            description = "Stores every impact in one transaction and sends the resulting notifications in one pass. Impacts of unknown articles or stocks are reported back as rejected.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Impacts of one or more articles",
+                    content = @Content(schema = @Schema(implementation = ArticleStockImpactBatchRequest.class))
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Impacts processed",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomApiResponse.class))),
+                    @ApiResponse(responseCode = "202",
+                            description = "Impacts stored, notifications queued",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomApiResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid request – malformed or missing data",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomApiResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error while processing impacts",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomApiResponse.class)))
+            }
+    )
+    public ResponseEntity<?> processArticleStockImpacts(@Valid @RequestBody ArticleStockImpactBatchRequest request,
+                                                        BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            String errorMessage = bindingResult.getAllErrors().toString();
+            log.error(errorMessage);
+            return ResponseEntity.badRequest().body(new CustomApiResponse(
+                    errorMessage, HttpStatus.BAD_REQUEST.value()
+            ));
+        }
+
+        log.info("Received batch of {} impacts", request.impacts().size());
+        try {
+            List<ArticleStockImpactDto> impacts = request.impacts().stream()
+                    .map(ArticleStockImpactBatchRequest.Item::toImpactDto)
+                    .toList();
+            if (asyncNotifications) {
+                ArticleStockImpactBatchResult result = articleStockImpactHandler.acceptAll(impacts);
+                return accepted("Accepted %d of %d impacts".formatted(result.accepted(), impacts.size()), result);
+            }
+            ArticleStockImpactBatchResult result = articleStockImpactHandler.handleAll(impacts);
+            return ResponseEntity.ok().body(new CustomApiResponse(
+                    "Processed %d of %d impacts".formatted(result.accepted(), request.impacts().size()),
+                    HttpStatus.OK.value(), result
+            ));
+        } catch (Exception e) {
+            String errorMessage = "Error processing batch of %d impacts".formatted(request.impacts().size());
+            log.error(errorMessage, e);
+            return ResponseEntity.internalServerError()
+                    .body(new CustomApiResponse(errorMessage, HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @RequireNotEmptyEmail
+    @GetMapping(API_IMPACT_JOBS_PATH + "/{job_id}")
+    @Operation(
+            summary = "Get the progress of queued impact notifications",
+            description = "Returns the status of the notification job created by an asynchronous stock impact callback.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Job found",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ImpactNotificationJobDto.class))),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - User not authenticated",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomApiResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - User cannot be identified or access denied",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomApiResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Job not found or already purged")
+            }
+    )
+    public ResponseEntity<?> getImpactNotificationJob(Principal principal, @PathVariable("job_id") String jobId) {
+        return articleStockImpactHandler.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static ResponseEntity<CustomApiResponse> accepted(String message, ArticleStockImpactBatchResult result) {
+        return ResponseEntity.accepted()
+                .location(URI.create(API_IMPACT_JOBS_PATH + "/" + result.job_id()))
+                .body(new CustomApiResponse(message, HttpStatus.ACCEPTED.value(), result));
+    }
+
     @Operation(
             summary = "Get authenticated user's articles with optional filtering",
             description = "Retrieves articles associated with the authenticated user, with support for various filter parameters.",
@@ -242,11 +342,14 @@ public class ArticlesController {
             @Parameter(description = "Filter by stock symbol or name associated with the article")
             @RequestParam(name = PARAM_STOCK, required = false) String stockName,
 
-            @Parameter(description = "Page number for pagination")
+            @Parameter(description = "Page number for pagination, ignored when a cursor is given")
             @RequestParam(name = PARAM_PAGE, required = false, defaultValue = "0") Integer pageNumber,
 
             @Parameter(description = "Page size for pagination")
-            @RequestParam(name = "size", required = false, defaultValue = "10") Integer size
+            @RequestParam(name = "size", required = false, defaultValue = "10") Integer size,
+
+            @Parameter(description = "Cursor from the " + NEXT_CURSOR_HEADER + " header of the previous page")
+            @RequestParam(name = PARAM_CURSOR, required = false) String cursor
     ) {
         String email = principal.getName();
         log.info("Attempting to get articles for user '{}' with filters: search={}, name={}, dateFrom={}, dateTo={}, stock={}, page={}, size={}",
@@ -260,11 +363,12 @@ public class ArticlesController {
                     dateTo,
                     stockName,
                     pageNumber,
-                    size
+                    size,
+                    cursor
             );
-            List<ArticleDto> articles = articleService.getArticlesForUser(searchParams, email);
-            log.info("Successfully retrieved {} articles for user '{}'", articles.size(), email);
-            return ResponseEntity.ok(articles);
+            ArticlePage articles = articleService.getArticlesForUser(searchParams, email);
+            log.info("Successfully retrieved {} articles for user '{}'", articles.articles().size(), email);
+            return withNextCursor(articles);
         } catch (UsernameNotFoundException e) {
             String errorMessage = String.format("User '%s' not found", email);
             log.error(errorMessage, e);
@@ -286,15 +390,26 @@ public class ArticlesController {
     public ResponseEntity<List<ArticleDto>> getStockArticles(
             @PathVariable String symbol,
             @RequestParam(name = "page", defaultValue = "0") Integer pageNumber,
-            @RequestParam(name = "size", defaultValue = "10") Integer size
+            @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = PARAM_CURSOR, required = false) String cursor
     ) {
         try {
             log.info("Fetching articles for stock with symbol: {}", symbol);
-            List<ArticleDto> articles = articleService.findByStockSymbol(symbol, pageNumber, size);
-            return ResponseEntity.ok(articles);
+            return withNextCursor(articleService.findByStockSymbol(symbol, cursor, pageNumber, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor for stock {}: {}", symbol, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error fetching articles for stock with symbol: {}", symbol, e);
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity<List<ArticleDto>> withNextCursor(ArticlePage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.articles());
+    }
+}
@@ -4,6 +4,7 @@ import com.example.backend.api.params.StocksSearchParams;
 import com.example.backend.api.response.CustomApiResponse;
 import com.example.backend.domain.dto.AddStockRequestDto;
 import com.example.backend.domain.dto.StockDto;
+import com.example.backend.domain.dto.StockFacetsDto;
 import com.example.backend.domain.service.stock.StockService;
 import com.example.backend.infrastructure.annotations.RequireNotEmptyEmail;
 import com.example.backend.infrastructure.exceptions.StockAlreadyAssociatedException;
@@ -35,13 +36,15 @@ import static com.example.backend.api.params.StocksSearchParams.*;
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 public class StockController {
     public static final String ALL_STOCKS = "/stocks";
+    public static final String STOCK_FACETS = ALL_STOCKS + "/facets";
     public static final String USER_STOCKS = "/user/stocks";
 
     private final StockService stockService;
 
     @GetMapping(ALL_STOCKS)
     @Operation(summary = "Get a list of all stocks from the database",
-            description = "Returns a list of all stock entries. This endpoint supports various filter parameters.",
+            description = "Returns a list of all stock entries. This endpoint supports various filter parameters. " +
+                    "Filters ignore case and diacritics; a general search ranks exact symbols first, then prefixes, then other matches.",
             responses = {
                     @ApiResponse(responseCode = "200",
                             description = "Successfully retrieved list of stocks",
@@ -69,6 +72,9 @@ public class StockController {
             @Parameter(description = "Filter by symbol")
             @RequestParam(name = PARAM_SYMBOL, required = false) String symbol,
 
+            @Parameter(description = "Filter by stock ids")
+            @RequestParam(name = PARAM_IDS, required = false) List<String> ids,
+
             @Parameter(description = "Page number for pagination")
             @RequestParam(name = PARAM_PAGE, required = false, defaultValue = "0") Integer pageNumber,
 
@@ -84,6 +90,7 @@ public class StockController {
                             symbol,
                             country,
                             exchangeName,
+                            ids,
                             size,
                             pageNumber
                     )
@@ -94,6 +101,49 @@ public class StockController {
         }
     }
 
+    @GetMapping(STOCK_FACETS)
+    @Operation(summary = "Count stocks matching the filters per country and exchange",
+            description = "Accepts the same filters as the stock list. Each facet ignores its own filter.",
+            responses = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Successfully counted stocks",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StockFacetsDto.class)
+                            )),
+                    @ApiResponse(responseCode = "403", description = "Access denied – insufficient permissions"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    public ResponseEntity<StockFacetsDto> getStockFacets(
+            @Parameter(description = "General search term")
+            @RequestParam(name = PARAM_SEARCH, required = false) String generalSearch,
+
+            @Parameter(description = "Search by stock name")
+            @RequestParam(name = PARAM_NAME, required = false) String stockName,
+
+            @Parameter(description = "Filter by exchange name")
+            @RequestParam(name = PARAM_EXCHANGE, required = false) String exchangeName,
+
+            @Parameter(description = "Filter by country name")
+            @RequestParam(name = PARAM_COUNTRY, required = false) String country,
+
+            @Parameter(description = "Filter by symbol")
+            @RequestParam(name = PARAM_SYMBOL, required = false) String symbol,
+
+            @Parameter(description = "Filter by stock ids")
+            @RequestParam(name = PARAM_IDS, required = false) List<String> ids
+    ) {
+        try {
+            return ResponseEntity.ok(stockService.findFacetsBySearchParams(
+                    new StocksSearchParams(generalSearch, stockName, symbol, country, exchangeName, ids, null, null)
+            ));
+        } catch (Exception e) {
+            log.error("Error counting stock facets", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping(USER_STOCKS)
     @Operation(summary = "Get a list of stocks associated with the current user",
             description = "Returns a list of all stocks owned or tracked by the currently authenticated user.",
@@ -7,7 +7,8 @@ public record ArticleSearchParams(
         String dateTo,
         String stockName,
         Integer pageNumber,
-        Integer size
+        Integer size,
+        String cursor
 ) {
     public static final String PARAM_SEARCH = "s";
     public static final String PARAM_NAME = "n";
@@ -15,4 +16,5 @@ public record ArticleSearchParams(
     public static final String PARAM_DATE_TO = "to";
     public static final String PARAM_STOCK = "r";
     public static final String PARAM_PAGE = "page";
+    public static final String PARAM_CURSOR = "cursor";
 }
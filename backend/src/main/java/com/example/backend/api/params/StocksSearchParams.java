@@ -1,11 +1,14 @@
 package com.example.backend.api.params;
 
+import java.util.List;
+
 public record StocksSearchParams(
         String generalSearch,
         String stockName,
         String symbol,
         String country,
         String exchange,
+        List<String> ids,
         Integer size,
         Integer page
 ) {
@@ -14,6 +17,7 @@ public record StocksSearchParams(
     public static final String PARAM_SYMBOL = "symbol";
     public static final String PARAM_COUNTRY = "c";
     public static final String PARAM_EXCHANGE = "e";
+    public static final String PARAM_IDS = "ids";
     public static final String PARAM_PAGE = "page";
     public static final String PARAM_SIZE = "size";
 }
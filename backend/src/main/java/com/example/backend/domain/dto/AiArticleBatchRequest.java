@@ -0,0 +1,5 @@
+package com.example.backend.domain.dto;
+
+import java.util.List;
+
+public record AiArticleBatchRequest(List<AiArticleRequest> articles) {}
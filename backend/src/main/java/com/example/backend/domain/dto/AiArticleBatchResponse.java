@@ -0,0 +1,14 @@
+package com.example.backend.domain.dto;
+
+import java.util.List;
+
+/**
+ * Response of the AI module's {@code POST /articles/batch}; articles are accepted or
+ * rejected individually.
+ */
+public record AiArticleBatchResponse(String error, String error_code, Result data) {
+
+    public record Result(List<String> accepted, List<Failure> failed) {}
+
+    public record Failure(String external_id, String error) {}
+}
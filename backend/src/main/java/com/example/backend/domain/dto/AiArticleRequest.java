@@ -1,6 +1,10 @@
 package com.example.backend.domain.dto;
 
-import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.List;
 
-public record AiArticleRequest(String external_id, String title, String description, Date published_at) {}
+/**
+ * @param candidate_stock_ids stocks mentioned in the article; the AI module only asks about these
+ */
+public record AiArticleRequest(String external_id, String title, String description, Date published_at,
+                               List<String> candidate_stock_ids) {}
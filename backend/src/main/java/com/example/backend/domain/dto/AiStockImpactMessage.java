@@ -0,0 +1,17 @@
+package com.example.backend.domain.dto;
+
+/**
+ * Impact published by the AI module on the reply queue; same fields as the
+ * {@code /articles/{id}/stock-impacts} callback body plus the article id.
+ */
+public record AiStockImpactMessage(String article_id, String stock_id, String impact, String reason) {
+
+    public ArticleStockImpactDto toImpactDto() {
+        return ArticleStockImpactDto.builder()
+                .articleId(article_id)
+                .stockId(stock_id)
+                .impact(impact)
+                .reason(reason)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Every impact the AI module found for one or more articles, sent in a single
+ * {@code POST /articles/stock-impacts/batch} call.
+ */
+public record ArticleStockImpactBatchRequest(
+        @NotEmpty(message = "At least one impact is required")
+        @Size(max = 1000, message = "At most 1000 impacts per request")
+        List<@Valid Item> impacts
+) {
+
+    public record Item(
+            @NotBlank(message = "Article ID cannot be empty") String article_id,
+            @NotBlank(message = "Stock ID cannot be empty") String stock_id,
+            @NotBlank(message = "Impact level is required")
+            @Pattern(regexp = "none|low|medium|high|severe", message = "Impact must be one of: none, low, medium, high, severe")
+            String impact,
+            String reason
+    ) {
+
+        public ArticleStockImpactDto toImpactDto() {
+            return ArticleStockImpactDto.builder()
+                    .articleId(article_id)
+                    .stockId(stock_id)
+                    .impact(impact)
+                    .reason(reason)
+                    .build();
+        }
+    }
+}
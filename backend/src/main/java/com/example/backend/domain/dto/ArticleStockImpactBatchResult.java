@@ -0,0 +1,15 @@
+package com.example.backend.domain.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch of impacts: how many were stored, how many of those changed the stored
+ * impact and which were dropped because their article or stock does not exist. In
+ * asynchronous mode {@code notified} is not known yet and {@code job_id} tracks the
+ * notifications instead.
+ */
+public record ArticleStockImpactBatchResult(int accepted, int changed, Integer notified, String job_id, List<Rejection> rejected) {
+
+    public record Rejection(String article_id, String stock_id, String error) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.domain.dto;
+
+import java.util.Date;
+
+/**
+ * Progress of the notifications sent for asynchronously accepted impacts.
+ */
+public record ImpactNotificationJobDto(
+        String job_id,
+        String status,
+        int impacts,
+        Integer notified,
+        String error,
+        Date created_at,
+        Date completed_at
+) {
+}
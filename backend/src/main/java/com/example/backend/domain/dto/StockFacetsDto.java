@@ -0,0 +1,10 @@
+package com.example.backend.domain.dto;
+
+import java.util.Map;
+
+/**
+ * Number of stocks matching a search, and how they split per country and exchange, most
+ * frequent first.
+ */
+public record StockFacetsDto(int total, Map<String, Integer> countries, Map<String, Integer> exchanges) {
+}
@@ -19,5 +19,6 @@ public class ArticleDto {
     private String url;
     private String description;
     private Date publishedAt;
+    private String canonicalArticleId;
     private List<SymbolWithImpact> stocks;
 }
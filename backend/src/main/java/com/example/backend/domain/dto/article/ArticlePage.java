@@ -0,0 +1,12 @@
+package com.example.backend.domain.dto.article;
+
+import java.util.List;
+
+/**
+ * @param nextCursor token for the next page, {@code null} on the last page
+ */
+public record ArticlePage(
+        List<ArticleDto> articles,
+        String nextCursor
+) {
+}
@@ -4,6 +4,7 @@ import com.example.backend.domain.dto.article.ArticleDto;
 import com.example.backend.domain.dto.article.SymbolWithImpact;
 import com.example.backend.infrastructure.database.entity.ArticleEntity;
 import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
+import com.example.backend.infrastructure.database.projection.ArticleListingView;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -39,6 +40,7 @@ public class ArticleMapper {
                 .url(articleEntity.getUrl())
                 .description(articleEntity.getDescription())
                 .publishedAt(articleEntity.getPublishedAt())
+                .canonicalArticleId(articleEntity.getCanonicalArticleId())
                 .stocks(impacts == null ? Collections.emptyList() :
                         impacts
                                 .stream()
@@ -53,4 +55,24 @@ public class ArticleMapper {
                 )
                 .build();
     }
+
+    public static ArticleDto map(ArticleListingView article) {
+        return ArticleDto.builder()
+                .externalId(article.id())
+                .title(article.title())
+                .author(article.author())
+                .slug(article.slug())
+                .backgroundImage(article.backgroundImage())
+                .url(article.url())
+                .description(article.description())
+                .publishedAt(article.publishedAt())
+                .canonicalArticleId(article.canonicalArticleId())
+                .stocks(article.stocks().stream()
+                        .map(stock -> SymbolWithImpact.builder()
+                                .symbol(stock.symbol())
+                                .impact(stock.impact())
+                                .build())
+                        .toList())
+                .build();
+    }
 }
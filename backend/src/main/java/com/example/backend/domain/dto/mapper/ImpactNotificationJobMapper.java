@@ -0,0 +1,22 @@
+package com.example.backend.domain.dto.mapper;
+
+import com.example.backend.domain.dto.ImpactNotificationJobDto;
+import com.example.backend.infrastructure.database.entity.ImpactNotificationJobEntity;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImpactNotificationJobMapper {
+
+    public static ImpactNotificationJobDto map(ImpactNotificationJobEntity entity) {
+        return new ImpactNotificationJobDto(
+                entity.getId(),
+                entity.getStatus().name(),
+                entity.getImpactIds().size(),
+                entity.getNotified(),
+                entity.getError(),
+                entity.getCreatedAt(),
+                entity.getCompletedAt()
+        );
+    }
+}
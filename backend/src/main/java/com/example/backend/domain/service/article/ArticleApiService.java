@@ -1,9 +1,8 @@
 package com.example.backend.domain.service.article;
 
 import com.example.backend.domain.dto.article.ArticleDto;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
 
 public interface ArticleApiService {
-    List<ArticleDto> fetchNewArticles();
+    Flux<ArticleDto> streamNewArticles(String source, String url);
 }
@@ -4,8 +4,7 @@ import com.example.backend.domain.dto.article.ArticleDto;
 import com.example.backend.domain.service.external.rss_fetcher.service.RssNewsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
 
 @Service
 @RequiredArgsConstructor
@@ -13,7 +12,7 @@ public class ArticleApiServiceImpl implements ArticleApiService {
     private final RssNewsService rssNewsService;
 
     @Override
-    public List<ArticleDto> fetchNewArticles() {
-        return rssNewsService.fetchNewArticles();
+    public Flux<ArticleDto> streamNewArticles(String source, String url) {
+        return rssNewsService.streamNewArticles(source, url);
     }
 }
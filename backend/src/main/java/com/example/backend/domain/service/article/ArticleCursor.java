@@ -0,0 +1,62 @@
+package com.example.backend.domain.service.article;
+
+import com.example.backend.infrastructure.database.projection.ArticleCursorView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position in an article listing, handed to clients as an opaque token. Listings ordered by
+ * publication continue after the last returned {@code (published_at, id)}; ranked full-text
+ * results have no stable key and continue from an offset instead.
+ */
+public record ArticleCursor(Date publishedAt, String id, int offset) {
+    public static final Date END_OF_TIME = Date.from(Instant.parse("9999-12-31T00:00:00Z"));
+    public static final ArticleCursor FIRST = new ArticleCursor(END_OF_TIME, "", 0);
+
+    private static final String KEYSET_PREFIX = "k:";
+    private static final String OFFSET_PREFIX = "o:";
+
+    public static ArticleCursor after(ArticleCursorView article) {
+        return new ArticleCursor(article.getPublishedAt(), article.getId(), 0);
+    }
+
+    public static ArticleCursor atOffset(int offset) {
+        return new ArticleCursor(END_OF_TIME, "", offset);
+    }
+
+    public String encode() {
+        String value = offset > 0
+                ? OFFSET_PREFIX + offset
+                : KEYSET_PREFIX + publishedAt.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return {@link #FIRST} for a missing token
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static ArticleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (value.startsWith(OFFSET_PREFIX)) {
+                int offset = Integer.parseInt(value.substring(OFFSET_PREFIX.length()));
+                if (offset >= 0) {
+                    return atOffset(offset);
+                }
+            } else if (value.startsWith(KEYSET_PREFIX)) {
+                int separator = value.indexOf(':', KEYSET_PREFIX.length());
+                long publishedAt = Long.parseLong(value.substring(KEYSET_PREFIX.length(), separator));
+                return new ArticleCursor(new Date(publishedAt), value.substring(separator + 1), 0);
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + token);
+    }
+}
@@ -2,13 +2,14 @@ package com.example.backend.domain.service.article;
 
 import com.example.backend.api.params.ArticleSearchParams;
 import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.dto.article.ArticlePage;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ArticleService {
 
-    List<ArticleDto> findAllBySearchParams(ArticleSearchParams params);
+    ArticlePage findAllBySearchParams(ArticleSearchParams params);
 
     ArticleDto addArticle(ArticleDto articleDto);
 
@@ -16,9 +17,9 @@ public interface ArticleService {
 
     Optional<ArticleDto> findById(String id);
 
-    List<ArticleDto> getArticlesForUser(ArticleSearchParams params, String email);
+    ArticlePage getArticlesForUser(ArticleSearchParams params, String email);
 
     Optional<ArticleDto> findBySlug(String slug);
 
-    List<ArticleDto> findByStockSymbol(String stockSymbol, int pageNumber, int size);
+    ArticlePage findByStockSymbol(String stockSymbol, String cursor, int pageNumber, int size);
 }
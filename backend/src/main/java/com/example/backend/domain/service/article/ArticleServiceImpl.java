@@ -2,47 +2,77 @@ package com.example.backend.domain.service.article;
 
 import com.example.backend.api.params.ArticleSearchParams;
 import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.dto.article.ArticlePage;
 import com.example.backend.domain.dto.mapper.ArticleMapper;
+import com.example.backend.domain.service.article.dedup.ArticleDedupIndex;
+import com.example.backend.domain.service.article.dedup.NearDuplicateIndex;
+import com.example.backend.domain.service.article.search.ArticleSearchQuery;
 import com.example.backend.infrastructure.database.entity.ArticleEntity;
-import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
 import com.example.backend.infrastructure.database.entity.UserEntity;
+import com.example.backend.infrastructure.database.projection.ArticleCursorView;
+import com.example.backend.infrastructure.database.repository.AiOutboxRepository;
+import com.example.backend.infrastructure.database.repository.ArticleBulkRepository;
 import com.example.backend.infrastructure.database.repository.ArticleJpaRepository;
+import com.example.backend.infrastructure.database.repository.ArticleListingRepository;
 import com.example.backend.infrastructure.database.repository.ArticleStockImpactJpaRepository;
+import com.example.backend.infrastructure.database.repository.UserArticleFeedRepository;
 import com.example.backend.infrastructure.database.repository.UserJpaRepository;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.*;
+import java.util.stream.Collectors;
 
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
+    private static final Date SEARCH_MIN_DATE = new Date(0);
+
     private final ArticleJpaRepository articleJpaRepository;
     private final UserJpaRepository userJpaRepository;
     private final ArticleStockImpactJpaRepository articleStockImpactJpaRepository;
+    private final ArticleDedupIndex articleDedupIndex;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final ArticleBulkRepository articleBulkRepository;
+    private final AiOutboxRepository aiOutboxRepository;
+    private final UserArticleFeedRepository userArticleFeedRepository;
+    private final ArticleListingRepository articleListingRepository;
+
+    @Value("${article.search.recency-scale:3d}")
+    private Duration recencyScale;
 
+    /**
+     * Text filters go through the full-text index and come back ranked by relevance and
+     * recency; without them articles are listed newest first and paged by keyset.
+     */
+    @Transactional(readOnly = true)
     @Override
-    public List<ArticleDto> findAllBySearchParams(ArticleSearchParams params) {
-        Sort sortDesc = Sort.by("publishedAt").descending();
-        Pageable pageable = PageRequest.of(params.pageNumber(), params.size(), sortDesc);
-        return articleJpaRepository.findAll(createArticleSpecification(params), pageable)
-                .stream()
-                .map(ArticleMapper::map)
-                .toList();
+    public ArticlePage findAllBySearchParams(ArticleSearchParams params) {
+        String tsQuery = ArticleSearchQuery.toTsQuery(params.generalSearch(), params.articleName());
+        if (tsQuery != null) {
+            return searchFullText(tsQuery, params);
+        }
+
+        ArticleCursor cursor = ArticleCursor.decode(params.cursor());
+        return listing(articleJpaRepository.findKeys(
+                dateFrom(params),
+                dateTo(params),
+                stockFilter(params),
+                cursor.publishedAt(),
+                cursor.id(),
+                pageable(params.cursor(), params.pageNumber(), params.size())));
     }
 
     @Override
@@ -60,25 +90,72 @@ public class ArticleServiceImpl implements ArticleService {
     @Transactional
     @Override
     public List<ArticleDto> saveAll(List<ArticleDto> articles) {
-        List<ArticleEntity> list = articles.stream().map(ArticleMapper::map).toList();
+        List<ArticleEntity> nonExisting = articleDedupIndex.filterNew(
+                articles.stream().map(ArticleMapper::map).toList()
+        );
+
+        nonExisting.stream()
+                .filter(entity -> entity.getId() == null)
+                .forEach(entity -> entity.setId(UUID.randomUUID().toString()));
 
-        List<String> existing = articleJpaRepository.findBySlugIsIn(list.stream().map(ArticleEntity::getSlug).toList())
-                .stream().map(ArticleEntity::getSlug).toList();
+        articleBulkRepository.lockCanonicalAssignment();
+        nearDuplicateIndex.assignCanonicals(nonExisting);
 
-        List<ArticleEntity> nonExisting = list
-                .stream().filter(
-                        e -> !existing.contains(e.getSlug())
-                )
+        Set<String> insertedIds = articleBulkRepository.insertIgnoringConflicts(nonExisting);
+        List<ArticleEntity> articleEntities = nonExisting.stream()
+                .filter(entity -> insertedIds.contains(entity.getId()))
                 .toList();
+        relinkSkippedCanonicals(nonExisting, insertedIds);
+
+        Map<Boolean, List<String>> byCanonical = articleEntities.stream().collect(Collectors.partitioningBy(
+                entity -> entity.getCanonicalArticleId() == null,
+                Collectors.mapping(ArticleEntity::getId, Collectors.toList())
+        ));
+        aiOutboxRepository.enqueue(byCanonical.get(true));
+        if (!byCanonical.get(false).isEmpty()) {
+            articleStockImpactJpaRepository.copyCanonicalImpacts(byCanonical.get(false));
+            userArticleFeedRepository.addArticles(byCanonical.get(false));
+        }
 
-        List<ArticleEntity> articleEntities = articleJpaRepository.saveAll(nonExisting);
+        articleDedupIndex.registerAfterCommit(articleEntities);
+        nearDuplicateIndex.registerOnCommit(articleEntities);
 
         return articleEntities.stream().map(ArticleMapper::map).toList();
     }
 
+    /**
+     * An article may have been linked to a canonical article of the same batch that was then
+     * skipped on conflict. Its link is moved to the row the canonical article conflicted with,
+     * or cleared when there is none, so the article is analyzed itself.
+     */
+    private void relinkSkippedCanonicals(List<ArticleEntity> candidates, Set<String> insertedIds) {
+        Map<String, ArticleEntity> skipped = candidates.stream()
+                .filter(entity -> !insertedIds.contains(entity.getId()))
+                .collect(Collectors.toMap(ArticleEntity::getId, entity -> entity));
+        if (skipped.isEmpty()) {
+            return;
+        }
+
+        Map<String, ArticleEntity> skippedCanonicals = new HashMap<>();
+        for (ArticleEntity entity : candidates) {
+            ArticleEntity canonical = entity.getCanonicalArticleId() != null ? skipped.get(entity.getCanonicalArticleId()) : null;
+            if (canonical != null && insertedIds.contains(entity.getId())) {
+                skippedCanonicals.put(entity.getId(), canonical);
+            }
+        }
+
+        Map<String, String> relinked = articleBulkRepository.relinkCanonicals(skippedCanonicals);
+        for (ArticleEntity entity : candidates) {
+            if (skippedCanonicals.containsKey(entity.getId())) {
+                entity.setCanonicalArticleId(relinked.get(entity.getId()));
+                log.info("Article \"{}\" relinked to {}", entity.getTitle(), entity.getCanonicalArticleId());
+            }
+        }
+    }
+
     @Override
     public Optional<ArticleDto> findById(String id) {
-        return articleJpaRepository.findById(id)
+        return articleJpaRepository.findWithImpactsById(id)
                 .map(ArticleMapper::map);
     }
 
@@ -89,7 +166,7 @@ public class ArticleServiceImpl implements ArticleService {
 
     @Transactional(readOnly = true)
     @Override
-    public List<ArticleDto> getArticlesForUser(ArticleSearchParams params, String email) {
+    public ArticlePage getArticlesForUser(ArticleSearchParams params, String email) {
         Optional<UserEntity> optionalUser = userJpaRepository.findByEmail(email);
 
         if (optionalUser.isEmpty()) {
@@ -97,89 +174,114 @@ public class ArticleServiceImpl implements ArticleService {
         }
 
         String userId = optionalUser.get().getId();
-        Pageable pageable = PageRequest.of(params.pageNumber(), params.size());
-        return articleJpaRepository.findArticlesByUserId(userId, pageable)
+        ArticleCursor cursor = ArticleCursor.decode(params.cursor());
+        return listing(articleJpaRepository.findFeedKeysByUserId(
+                userId, cursor.publishedAt(), cursor.id(), pageable(params.cursor(), params.pageNumber(), params.size())));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ArticlePage findByStockSymbol(String stockSymbol, String cursorToken, int pageNumber, int size) {
+        ArticleCursor cursor = ArticleCursor.decode(cursorToken);
+        return listing(articleJpaRepository.findKeysByStockSymbol(
+                stockSymbol, cursor.publishedAt(), cursor.id(), pageable(cursorToken, pageNumber, size)));
+    }
+
+    /**
+     * Page numbers are still accepted from clients without a cursor and are applied from the
+     * first page; with a cursor only the size matters.
+     */
+    private static Pageable pageable(String cursorToken, int pageNumber, int size) {
+        return PageRequest.of(cursorToken == null ? pageNumber : 0, size);
+    }
+
+    /**
+     * Loads a page of keys from the read model, keeping their order.
+     */
+    private ArticlePage listing(Slice<ArticleCursorView> keys) {
+        return listing(keys.getContent(), keys.hasNext()
+                ? ArticleCursor.after(keys.getContent().get(keys.getContent().size() - 1)).encode()
+                : null);
+    }
+
+    private ArticlePage listing(List<ArticleCursorView> keys, String nextCursor) {
+        List<ArticleDto> articles = articleListingRepository.findAllById(keys.stream().map(ArticleCursorView::getId).toList())
                 .stream()
                 .map(ArticleMapper::map)
-                .sorted(Comparator.comparing(ArticleDto::getPublishedAt).reversed())
                 .toList();
+        return new ArticlePage(articles, nextCursor);
     }
 
-    @Override
-    public List<ArticleDto> findByStockSymbol(String stockSymbol, int pageNumber, int size) {
-            return articleStockImpactJpaRepository.findAllByStockSymbol(stockSymbol, PageRequest.of(pageNumber, size)).stream()
-                    .map(impact -> ArticleMapper.map(impact.getArticle()))
-                    .toList();
-    }
-
-    private Specification<ArticleEntity> createArticleSpecification(ArticleSearchParams params) {
-        return (root, query, criteriaBuilder) -> {
-            Predicate predicate = criteriaBuilder.conjunction();
-
-            if (params.articleName() != null) {
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.like(
-                                criteriaBuilder.lower(root.get("title")),
-                                "%" + params.articleName().toLowerCase() + "%"
-                        )
-                );
-            }
+    /**
+     * Ranked results have no stable key, so their cursor carries an offset.
+     */
+    private ArticlePage searchFullText(String tsQuery, ArticleSearchParams params) {
+        int offset = params.cursor() != null
+                ? ArticleCursor.decode(params.cursor()).offset()
+                : params.pageNumber() * params.size();
 
-            if (params.generalSearch() != null) {
-                String searchTerm = "%" + params.generalSearch().toLowerCase() + "%";
-                Predicate titlePredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("title")),
-                        searchTerm
-                );
-                Predicate descriptionPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("description")),
-                        searchTerm
-                );
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.or(titlePredicate, descriptionPredicate)
-                );
-            }
+        List<ArticleCursorView> keys = articleJpaRepository.searchFullText(
+                tsQuery,
+                dateFrom(params),
+                dateTo(params),
+                stockFilter(params),
+                Math.max(1, recencyScale.toSeconds()),
+                offset,
+                params.size() + 1);
+        boolean hasNext = keys.size() > params.size();
+        return listing(
+                hasNext ? keys.subList(0, params.size()) : keys,
+                hasNext ? ArticleCursor.atOffset(offset + params.size()).encode() : null
+        );
+    }
 
-            if (params.dateFrom() != null) {
-                try {
-                    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-                    Date fromDate = dateFormat.parse(params.dateFrom());
-                    predicate = criteriaBuilder.and(predicate,
-                            criteriaBuilder.greaterThanOrEqualTo(root.get("publishedAt"), fromDate)
-                    );
-                } catch (ParseException e) {
-                    log.error("Failed to parse dateFrom: " + params.dateFrom(), e);
-                }
-            }
+    private static Date dateFrom(ArticleSearchParams params) {
+        Date from = params.dateFrom() != null ? parseDateFrom(params.dateFrom()) : null;
+        return from != null ? from : SEARCH_MIN_DATE;
+    }
 
-            if (params.dateTo() != null) {
-                try {
-                    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-                    Date toDate = dateFormat.parse(params.dateTo());
-                    Calendar c = Calendar.getInstance();
-                    c.setTime(toDate);
-                    c.add(Calendar.DATE, 1);
-                    Date endDate = c.getTime();
-
-                    predicate = criteriaBuilder.and(predicate,
-                            criteriaBuilder.lessThan(root.get("publishedAt"), endDate)
-                    );
-                } catch (ParseException e) {
-                    log.error("Error parsing dateTo: " + params.dateTo(), e);
-                }
-            }
+    private static Date dateTo(ArticleSearchParams params) {
+        Date to = params.dateTo() != null ? parseDateTo(params.dateTo()) : null;
+        return to != null ? to : ArticleCursor.END_OF_TIME;
+    }
 
-            if (params.stockName() != null) {
-                Join<ArticleEntity, ArticleStockImpactEntity> stockImpactJoin = root.join("articleImpacts", JoinType.INNER);
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.like(
-                                criteriaBuilder.lower(stockImpactJoin.get("stockName")),
-                                "%" + params.stockName().toLowerCase() + "%"
-                        )
-                );
-            }
+    /**
+     * @return lower-case {@code LIKE} pattern for the stock name or symbol, empty for any stock;
+     * {@code %} and {@code _} in the name are matched literally
+     */
+    private static String stockFilter(ArticleSearchParams params) {
+        if (params.stockName() == null || params.stockName().isBlank()) {
+            return "";
+        }
+        String escaped = params.stockName().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static Date parseDateFrom(String dateFrom) {
+        try {
+            return new SimpleDateFormat("yyyy-MM-dd").parse(dateFrom);
+        } catch (ParseException e) {
+            log.error("Failed to parse dateFrom: " + dateFrom, e);
+            return null;
+        }
+    }
 
-            return predicate;
-        };
+    /**
+     * @return start of the day after {@code dateTo}, so the whole day is included
+     */
+    private static Date parseDateTo(String dateTo) {
+        try {
+            Date toDate = new SimpleDateFormat("yyyy-MM-dd").parse(dateTo);
+            Calendar c = Calendar.getInstance();
+            c.setTime(toDate);
+            c.add(Calendar.DATE, 1);
+            return c.getTime();
+        } catch (ParseException e) {
+            log.error("Error parsing dateTo: " + dateTo, e);
+            return null;
+        }
     }
 }
@@ -0,0 +1,206 @@
+package com.example.backend.domain.service.article.dedup;
+
+import com.example.backend.domain.service.article.slug.SlugGenerator;
+import com.example.backend.infrastructure.database.entity.ArticleEntity;
+import com.example.backend.infrastructure.database.projection.ArticleKeyView;
+import com.example.backend.infrastructure.database.repository.ArticleJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of existing article slugs and titles, both of which are unique in
+ * {@code articles}. Titles are compared exactly as stored, the way {@code ux_articles_title}
+ * (and so {@code ON CONFLICT}) compares them, which also lets the confirming query use
+ * that index. A Bloom filter answers "definitely new" without touching
+ * the database, a bounded set of recently inserted keys answers "definitely exists",
+ * and only the remaining possible positives are confirmed with a single-column query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleDedupIndex {
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int MAX_COLLISION_ATTEMPTS = 5;
+
+    private final ArticleJpaRepository articleJpaRepository;
+
+    @Value("${article.dedup.expected-articles:1000000}")
+    private long expectedArticles;
+
+    @Value("${article.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${article.dedup.recent-size:10000}")
+    private int recentSize;
+
+    private volatile BloomFilter slugs;
+    private volatile BloomFilter titles;
+    private volatile boolean ready;
+    private volatile Set<String> recentSlugs;
+    private volatile Set<String> recentTitles;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        recentSlugs = boundedSet(recentSize);
+        recentTitles = boundedSet(recentSize);
+        slugs = new BloomFilter(expectedArticles, falsePositiveRate);
+        titles = new BloomFilter(expectedArticles, falsePositiveRate);
+
+        long loaded = 0;
+        String afterId = "";
+        List<ArticleKeyView> batch;
+        do {
+            batch = articleJpaRepository.findKeysAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (ArticleKeyView key : batch) {
+                slugs.put(key.getSlug());
+                titles.put(titleKey(key.getTitle()));
+            }
+            loaded += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        ready = true;
+        log.info("Article dedup index loaded with {} articles", loaded);
+    }
+
+    /**
+     * Drops candidates whose title already exists, in the database or earlier in
+     * the same list. A new title whose slug is already taken gets a collision suffix
+     * instead of being dropped.
+     */
+    public List<ArticleEntity> filterNew(List<ArticleEntity> candidates) {
+        List<ArticleEntity> unique = new ArrayList<>();
+        Set<String> batchTitles = new HashSet<>();
+        Set<String> titlesToCheck = new HashSet<>();
+
+        for (ArticleEntity candidate : candidates) {
+            String title = titleKey(candidate.getTitle());
+            if (!batchTitles.add(title) || (ready && recentTitles.contains(title))) {
+                continue;
+            }
+            if (!ready || titles.mightContain(title)) {
+                titlesToCheck.add(title);
+            }
+            unique.add(candidate);
+        }
+
+        Set<String> existingTitles = existing(titlesToCheck, articleJpaRepository::findExistingTitles);
+        List<ArticleEntity> fresh = existingTitles.isEmpty() ? unique : unique.stream()
+                .filter(candidate -> !existingTitles.contains(titleKey(candidate.getTitle())))
+                .toList();
+
+        Set<String> existingSlugs = existing(
+                fresh.stream().map(ArticleEntity::getSlug).filter(this::mightExist).collect(Collectors.toSet()),
+                articleJpaRepository::findExistingSlugs
+        );
+        Set<String> batchSlugs = new HashSet<>();
+        for (ArticleEntity candidate : fresh) {
+            String slug = candidate.getSlug();
+            if (batchSlugs.contains(slug) || existingSlugs.contains(slug)) {
+                slug = resolveCollision(candidate, batchSlugs);
+                log.info("Slug {} is taken, using {} for \"{}\"", candidate.getSlug(), slug, candidate.getTitle());
+                candidate.setSlug(slug);
+            }
+            batchSlugs.add(slug);
+        }
+        return fresh;
+    }
+
+    private boolean mightExist(String slug) {
+        return !ready || recentSlugs.contains(slug) || slugs.mightContain(slug);
+    }
+
+    /**
+     * Picks the first free one of {@value #MAX_COLLISION_ATTEMPTS} deterministic alternatives,
+     * checked in a single query, and falls back to a random suffix when all are taken.
+     */
+    private String resolveCollision(ArticleEntity candidate, Set<String> batchSlugs) {
+        List<String> alternatives = new ArrayList<>(MAX_COLLISION_ATTEMPTS);
+        for (int attempt = 0; attempt < MAX_COLLISION_ATTEMPTS; attempt++) {
+            String alternative = SlugGenerator.createCollisionSlug(candidate.getSlug(), candidate.getTitle(), attempt);
+            if (!batchSlugs.contains(alternative)) {
+                alternatives.add(alternative);
+            }
+        }
+
+        Set<String> taken = existing(
+                alternatives.stream().filter(this::mightExist).collect(Collectors.toSet()),
+                articleJpaRepository::findExistingSlugs
+        );
+        return alternatives.stream()
+                .filter(alternative -> !taken.contains(alternative))
+                .findFirst()
+                .orElseGet(() -> SlugGenerator.createRandomSlug(candidate.getSlug()));
+    }
+
+    /**
+     * Adds inserted articles to the index once the surrounding transaction commits.
+     */
+    public void registerAfterCommit(Collection<ArticleEntity> inserted) {
+        List<ArticleEntity> snapshot = List.copyOf(inserted);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(snapshot);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(snapshot);
+            }
+        });
+    }
+
+    private void register(List<ArticleEntity> inserted) {
+        if (titles == null) {
+            return;
+        }
+        for (ArticleEntity article : inserted) {
+            String title = titleKey(article.getTitle());
+            slugs.put(article.getSlug());
+            titles.put(title);
+            recentSlugs.add(article.getSlug());
+            recentTitles.add(title);
+        }
+    }
+
+    private static String titleKey(String title) {
+        return title == null ? "" : title;
+    }
+
+    private static Set<String> existing(Set<String> keys, Function<Collection<String>, List<String>> query) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(query.apply(keys));
+    }
+
+    private static Set<String> boundedSet(int maxSize) {
+        return Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        }));
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.backend.domain.service.article.dedup;
+
+import com.example.backend.infrastructure.database.entity.ArticleEntity;
+import com.example.backend.infrastructure.database.projection.ArticleSignatureView;
+import com.example.backend.infrastructure.database.repository.ArticleJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the same story published under different titles (the Bankier feeds overlap each
+ * other and Polsat). Canonical articles of the last {@code window} are kept in memory
+ * with their MinHash signatures bucketed by LSH band, so a new article is only compared
+ * with the few articles sharing at least one band. A match links the new article to the
+ * canonical one instead of sending it to the AI module again.
+ * <p>
+ * Callers assign canonicals under {@code ArticleBulkRepository#lockCanonicalAssignment()},
+ * a lock held until their transaction ends, and register the inserted articles right before
+ * commit. Concurrent ingestion runs therefore see each other's articles as soon as they
+ * are committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateIndex {
+    private final ArticleJpaRepository articleJpaRepository;
+
+    @Value("${article.near-duplicate.enabled:true}")
+    private boolean enabled;
+
+    @Value("${article.near-duplicate.similarity:0.5}")
+    private double similarityThreshold;
+
+    @Value("${article.near-duplicate.bands:20}")
+    private int bands;
+
+    @Value("${article.near-duplicate.rows:3}")
+    private int rows;
+
+    @Value("${article.near-duplicate.description-length:280}")
+    private int descriptionLength;
+
+    @Value("${article.near-duplicate.window:48h}")
+    private Duration window;
+
+    @Value("${article.near-duplicate.max-entries:50000}")
+    private int maxEntries;
+
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private final Deque<Entry> entries = new ArrayDeque<>();
+
+    private record Entry(String id, Instant publishedAt, NearDuplicateSignature signature, long[] bandKeys) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        List<ArticleSignatureView> recent = articleJpaRepository.findCanonicalPublishedAfter(Date.from(Instant.now().minus(window)));
+        synchronized (this) {
+            for (ArticleSignatureView article : recent) {
+                add(entry(article.getId(), article.getTitle(), article.getDescription(), article.getPublishedAt()));
+            }
+        }
+        log.info("Near-duplicate index loaded with {} articles", recent.size());
+    }
+
+    /**
+     * Sets {@code canonicalArticleId} on candidates that repeat a story already in the
+     * index or earlier in the same list. Candidates must already have their ids assigned.
+     */
+    public synchronized void assignCanonicals(List<ArticleEntity> candidates) {
+        if (!enabled) {
+            return;
+        }
+        evictExpired();
+
+        List<Entry> batch = new ArrayList<>();
+        for (ArticleEntity candidate : candidates) {
+            Entry entry = entry(candidate.getId(), candidate.getTitle(), candidate.getDescription(), candidate.getPublishedAt());
+            Entry match = findMatch(entry, batch);
+            if (match == null) {
+                batch.add(entry);
+                continue;
+            }
+            candidate.setCanonicalArticleId(match.id());
+            log.info("Article \"{}\" repeats {}", candidate.getTitle(), match.id());
+        }
+    }
+
+    /**
+     * Adds inserted canonical articles to the index just before the surrounding transaction
+     * commits, and takes them out again if the commit fails.
+     */
+    public void registerOnCommit(Collection<ArticleEntity> inserted) {
+        if (!enabled) {
+            return;
+        }
+        List<Entry> canonical = inserted.stream()
+                .filter(article -> article.getCanonicalArticleId() == null)
+                .map(article -> entry(article.getId(), article.getTitle(), article.getDescription(), article.getPublishedAt()))
+                .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(canonical);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                register(canonical);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    unregister(canonical);
+                }
+            }
+        });
+    }
+
+    private synchronized void register(List<Entry> canonical) {
+        canonical.forEach(this::add);
+        evictExpired();
+    }
+
+    private synchronized void unregister(List<Entry> canonical) {
+        for (Entry entry : canonical) {
+            if (entries.remove(entry)) {
+                removeFromBuckets(entry);
+            }
+        }
+    }
+
+    private Entry findMatch(Entry entry, List<Entry> batch) {
+        Entry best = null;
+        double bestSimilarity = similarityThreshold;
+        for (int band = 0; band < bands; band++) {
+            for (Entry candidate : buckets.getOrDefault(entry.bandKeys()[band], List.of())) {
+                double similarity = similarity(entry, candidate);
+                if (similarity >= bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        for (Entry candidate : batch) {
+            double similarity = similarity(entry, candidate);
+            if (similarity >= bestSimilarity) {
+                best = candidate;
+                bestSimilarity = similarity;
+            }
+        }
+        return best;
+    }
+
+    private double similarity(Entry entry, Entry candidate) {
+        if (Duration.between(candidate.publishedAt(), entry.publishedAt()).abs().compareTo(window) > 0
+                || !entry.signature().numbersMatch(candidate.signature())) {
+            return 0;
+        }
+        return entry.signature().similarity(candidate.signature());
+    }
+
+    private void add(Entry entry) {
+        entries.addLast(entry);
+        for (long key : entry.bandKeys()) {
+            buckets.computeIfAbsent(key, ignored -> new ArrayList<>(2)).add(entry);
+        }
+    }
+
+    /**
+     * Entries are roughly ordered by publication, so expiring from the head is enough.
+     */
+    private void evictExpired() {
+        Instant cutoff = Instant.now().minus(window);
+        while (!entries.isEmpty() && (entries.size() > maxEntries || entries.peekFirst().publishedAt().isBefore(cutoff))) {
+            removeFromBuckets(entries.pollFirst());
+        }
+    }
+
+    private void removeFromBuckets(Entry entry) {
+        for (long key : entry.bandKeys()) {
+            List<Entry> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private Entry entry(String id, String title, String description, Date publishedAt) {
+        NearDuplicateSignature signature = NearDuplicateSignature.of(title, description, descriptionLength, bands * rows);
+        return new Entry(id, publishedAt != null ? publishedAt.toInstant() : Instant.now(), signature, signature.bandKeys(bands));
+    }
+}
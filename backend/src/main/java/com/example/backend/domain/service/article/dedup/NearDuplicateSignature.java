@@ -0,0 +1,139 @@
+package com.example.backend.domain.service.article.dedup;
+
+import com.example.backend.domain.service.article.slug.SlugGenerator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Word features and MinHash signature of an article's title and the beginning of its
+ * description. Words are normalized like slugs (case, punctuation and Polish diacritics
+ * do not matter) and cut to a short prefix, which is a crude but effective stemmer for
+ * inflected Polish ("kwartał" / "kwartale").
+ * <p>
+ * The signature is only used to find candidates through LSH buckets; candidates are
+ * confirmed with the exact Jaccard similarity of the features and by requiring that every
+ * number in one title also appears in the other article, so templated stories ("X earned
+ * 2.5 bn" / "Y earned 1.8 bn") are kept apart.
+ */
+class NearDuplicateSignature {
+    private static final int STEM_LENGTH = 5;
+    private static final int MIN_WORD_LENGTH = 3;
+
+    private final Set<String> features = new HashSet<>();
+    private final Set<String> numbers = new HashSet<>();
+    private final Set<String> titleNumbers = new HashSet<>();
+    private final long[] minHashes;
+
+    private NearDuplicateSignature(int hashCount) {
+        minHashes = new long[hashCount];
+    }
+
+    static NearDuplicateSignature of(String title, String description, int descriptionLength, int hashCount) {
+        NearDuplicateSignature signature = new NearDuplicateSignature(hashCount);
+        signature.addWords(title, true);
+        if (description != null) {
+            signature.addWords(description.substring(0, Math.min(description.length(), descriptionLength)), false);
+        }
+        signature.computeMinHashes();
+        return signature;
+    }
+
+    /**
+     * LSH bucket keys: the signature split into {@code bands} bands, each hashed together
+     * with its band number so equal bands at different positions do not collide.
+     */
+    long[] bandKeys(int bands) {
+        int rows = minHashes.length / bands;
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = mix(band + 1);
+            for (int row = band * rows; row < (band + 1) * rows; row++) {
+                key = mix(key ^ minHashes[row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    double similarity(NearDuplicateSignature other) {
+        if (features.isEmpty() || other.features.isEmpty()) {
+            return 0;
+        }
+        Set<String> smaller = features.size() <= other.features.size() ? features : other.features;
+        Set<String> larger = smaller == features ? other.features : features;
+        int common = 0;
+        for (String feature : smaller) {
+            if (larger.contains(feature)) {
+                common++;
+            }
+        }
+        return (double) common / (features.size() + other.features.size() - common);
+    }
+
+    boolean numbersMatch(NearDuplicateSignature other) {
+        return other.numbers.containsAll(titleNumbers) && numbers.containsAll(other.titleNumbers);
+    }
+
+    private void addWords(String text, boolean title) {
+        String normalized = SlugGenerator.createSlugFromTitle(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        for (String word : normalized.split("-")) {
+            if (isNumber(word)) {
+                numbers.add(word);
+                if (title) {
+                    titleNumbers.add(word);
+                }
+                features.add(word);
+            } else if (word.length() >= MIN_WORD_LENGTH) {
+                features.add(word.length() > STEM_LENGTH ? word.substring(0, STEM_LENGTH) : word);
+            }
+        }
+    }
+
+    private void computeMinHashes() {
+        Arrays.fill(minHashes, Long.MAX_VALUE);
+        for (String feature : features) {
+            long base = hash(feature);
+            for (int i = 0; i < minHashes.length; i++) {
+                long value = mix(base ^ (0x9e3779b97f4a7c15L * (i + 1)));
+                if (value < minHashes[i]) {
+                    minHashes[i] = value;
+                }
+            }
+        }
+    }
+
+    private static boolean isNumber(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) < '0' || word.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return !word.isEmpty();
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
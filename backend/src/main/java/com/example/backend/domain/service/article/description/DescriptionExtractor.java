@@ -0,0 +1,273 @@
+package com.example.backend.domain.service.article.description;
+
+import org.jsoup.nodes.Entities;
+import org.jsoup.parser.Parser;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Extracts plain text, the first image URL and a short summary from an HTML feed item
+ * description in a single forward scan, without building a DOM. The text follows the
+ * rules of {@code Jsoup.parse(html).text()}: tags are dropped, entities decoded,
+ * whitespace collapsed, block elements separated by a space and script/style skipped.
+ */
+public class DescriptionExtractor {
+
+    public static final int SUMMARY_LENGTH = 280;
+
+    private static final int MAX_ENTITY_LENGTH = 32;
+
+    private static final ExtractedDescription EMPTY = new ExtractedDescription("", "", "");
+
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "address", "article", "aside", "blockquote", "br", "dd", "div", "dl", "dt", "figcaption",
+            "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hr", "li",
+            "main", "nav", "ol", "p", "pre", "section", "table", "tbody", "td", "tfoot", "th",
+            "thead", "tr", "ul"
+    );
+
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style");
+
+    public record ExtractedDescription(String text, String imageUrl, String summary) {
+    }
+
+    public static ExtractedDescription extract(String html) {
+        if (html == null || html.isEmpty()) {
+            return EMPTY;
+        }
+
+        StringBuilder text = new StringBuilder(html.length());
+        String imageUrl = null;
+        int length = html.length();
+        int textStart = 0;
+        int i = 0;
+
+        while (i < length) {
+            if (html.charAt(i) != '<' || i + 1 >= length || !startsMarkup(html.charAt(i + 1))) {
+                i++;
+                continue;
+            }
+
+            appendText(text, html, textStart, i);
+
+            if (html.startsWith("<!--", i)) {
+                int end = html.indexOf("-->", i + 4);
+                i = end < 0 ? length : end + 3;
+                textStart = i;
+                continue;
+            }
+            if (html.charAt(i + 1) == '!' || html.charAt(i + 1) == '?') {
+                int end = html.indexOf('>', i);
+                i = end < 0 ? length : end + 1;
+                textStart = i;
+                continue;
+            }
+
+            boolean closing = html.charAt(i + 1) == '/';
+            int nameStart = closing ? i + 2 : i + 1;
+            int nameEnd = nameStart;
+            while (nameEnd < length && isNameChar(html.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            String name = html.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+
+            int tagEnd = findTagEnd(html, nameEnd);
+            if (!closing && imageUrl == null && name.equals("img")) {
+                imageUrl = attribute(html, nameEnd, tagEnd, "src");
+            }
+            i = tagEnd < length ? tagEnd + 1 : length;
+
+            if (BLOCK_TAGS.contains(name)) {
+                separate(text);
+            }
+            if (!closing && RAW_TEXT_TAGS.contains(name)) {
+                i = skipRawText(html, i, name);
+            }
+            textStart = i;
+        }
+        appendText(text, html, textStart, length);
+
+        String plain = text.toString().strip();
+        return new ExtractedDescription(plain, imageUrl != null ? imageUrl : "", summarize(plain, SUMMARY_LENGTH));
+    }
+
+    /**
+     * Cuts plain text to at most {@code maxLength} characters, preferring a word boundary,
+     * and marks the cut with an ellipsis.
+     */
+    public static String summarize(String text, int maxLength) {
+        if (text == null || text.length() <= maxLength) {
+            return text;
+        }
+
+        int cut = text.lastIndexOf(' ', maxLength);
+        if (cut < maxLength / 2) {
+            cut = maxLength;
+        }
+        if (Character.isHighSurrogate(text.charAt(cut - 1))) {
+            cut--;
+        }
+        return text.substring(0, cut).stripTrailing() + "\u2026";
+    }
+
+    private static boolean startsMarkup(char c) {
+        return Character.isLetter(c) || c == '/' || c == '!' || c == '?';
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == ':';
+    }
+
+    private static int findTagEnd(String html, int from) {
+        char quote = 0;
+        for (int i = from; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        return html.length();
+    }
+
+    private static String attribute(String html, int from, int to, String wanted) {
+        int i = from;
+        while (i < to) {
+            while (i < to && (Character.isWhitespace(html.charAt(i)) || html.charAt(i) == '/')) {
+                i++;
+            }
+            int nameStart = i;
+            while (i < to && !Character.isWhitespace(html.charAt(i)) && html.charAt(i) != '=' && html.charAt(i) != '/') {
+                i++;
+            }
+            String name = html.substring(nameStart, i);
+            while (i < to && Character.isWhitespace(html.charAt(i))) {
+                i++;
+            }
+            if (i >= to || html.charAt(i) != '=') {
+                if (name.isEmpty()) {
+                    i++;
+                }
+                continue;
+            }
+            i++;
+            while (i < to && Character.isWhitespace(html.charAt(i))) {
+                i++;
+            }
+
+            int valueStart;
+            int valueEnd;
+            if (i < to && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                char quote = html.charAt(i);
+                valueStart = i + 1;
+                valueEnd = html.indexOf(quote, valueStart);
+                if (valueEnd < 0 || valueEnd > to) {
+                    valueEnd = to;
+                }
+                i = valueEnd + 1;
+            } else {
+                valueStart = i;
+                while (i < to && !Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+                valueEnd = i;
+            }
+
+            if (name.equalsIgnoreCase(wanted)) {
+                return Parser.unescapeEntities(html.substring(valueStart, valueEnd), true).strip();
+            }
+        }
+        return null;
+    }
+
+    private static int skipRawText(String html, int from, String name) {
+        String closing = "</" + name;
+        int i = from;
+        while (true) {
+            int end = html.indexOf("</", i);
+            if (end < 0) {
+                return html.length();
+            }
+            if (html.regionMatches(true, end, closing, 0, closing.length())) {
+                return end;
+            }
+            i = end + 2;
+        }
+    }
+
+    /**
+     * Appends {@code html[from, to)} with entities decoded and whitespace collapsed. Numeric
+     * and terminated named entities are decoded inline; anything unusual (e.g. legacy
+     * entities without a semicolon) falls back to Jsoup for the whole run.
+     */
+    private static void appendText(StringBuilder text, String html, int from, int to) {
+        int mark = text.length();
+        for (int i = from; i < to; i++) {
+            char c = html.charAt(i);
+            if (c != '&') {
+                appendCollapsed(text, c);
+                continue;
+            }
+
+            int end = html.indexOf(';', i);
+            String decoded = end > i + 1 && end < to ? decodeEntity(html, i + 1, end) : null;
+            if (decoded == null) {
+                text.setLength(mark);
+                String unescaped = Parser.unescapeEntities(html.substring(from, to), false);
+                for (int k = 0; k < unescaped.length(); k++) {
+                    appendCollapsed(text, unescaped.charAt(k));
+                }
+                return;
+            }
+            for (int k = 0; k < decoded.length(); k++) {
+                appendCollapsed(text, decoded.charAt(k));
+            }
+            i = end;
+        }
+    }
+
+    private static String decodeEntity(String html, int from, int to) {
+        if (to - from > MAX_ENTITY_LENGTH) {
+            return null;
+        }
+
+        if (html.charAt(from) != '#') {
+            String value = Entities.getByName(html.substring(from, to));
+            return value.isEmpty() ? null : value;
+        }
+
+        boolean hex = from + 1 < to && (html.charAt(from + 1) == 'x' || html.charAt(from + 1) == 'X');
+        try {
+            int codePoint = Integer.parseInt(html, hex ? from + 2 : from + 1, to, hex ? 16 : 10);
+            return codePoint > 0 && Character.isValidCodePoint(codePoint) && !Character.isSurrogate((char) codePoint)
+                    ? Character.toString(codePoint)
+                    : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void appendCollapsed(StringBuilder text, char c) {
+        if (!isWhitespace(c)) {
+            text.append(c);
+        } else if (!text.isEmpty() && text.charAt(text.length() - 1) != ' ') {
+            text.append(' ');
+        }
+    }
+
+    private static void separate(StringBuilder text) {
+        if (!text.isEmpty() && text.charAt(text.length() - 1) != ' ') {
+            text.append(' ');
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u00a0';
+    }
+}
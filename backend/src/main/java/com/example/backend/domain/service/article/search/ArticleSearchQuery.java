@@ -0,0 +1,49 @@
+package com.example.backend.domain.service.article.search;
+
+import com.example.backend.domain.service.article.slug.SlugGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns user input into a {@code to_tsquery} expression for the {@code polish_unaccent}
+ * configuration. Every term becomes a prefix match, so a half-typed word already finds
+ * results, and longer words lose their last one or two letters first to stand in for the
+ * missing Polish stemmer ("akcji" and "akcje" both search {@code akcj:*}). Terms only ever
+ * contain slug characters, so the expression cannot be broken by user input.
+ */
+public final class ArticleSearchQuery {
+    private static final int MAX_TERMS = 8;
+    private static final int MIN_STEMMED_LENGTH = 4;
+
+    private ArticleSearchQuery() {
+    }
+
+    /**
+     * @param text  matched against titles and descriptions
+     * @param title matched against titles only
+     * @return the query, or {@code null} when neither input contains a word
+     */
+    public static String toTsQuery(String text, String title) {
+        List<String> terms = new ArrayList<>();
+        addTerms(terms, text, ":*");
+        addTerms(terms, title, ":*A");
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    private static void addTerms(List<String> terms, String input, String suffix) {
+        for (String word : SlugGenerator.createSlugFromTitle(input).split("-")) {
+            if (!word.isEmpty() && terms.size() < MAX_TERMS) {
+                terms.add(stem(word) + suffix);
+            }
+        }
+    }
+
+    static String stem(String word) {
+        if (word.length() <= MIN_STEMMED_LENGTH || !Character.isLetter(word.charAt(word.length() - 1))) {
+            return word;
+        }
+        int strip = word.length() >= 7 ? 2 : 1;
+        return word.substring(0, Math.max(MIN_STEMMED_LENGTH, word.length() - strip));
+    }
+}
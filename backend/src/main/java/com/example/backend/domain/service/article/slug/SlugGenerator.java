@@ -2,34 +2,151 @@ package com.example.backend.domain.service.article.slug;
 
 import java.text.Normalizer;
 import java.util.Locale;
-import java.util.regex.Pattern;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Builds URL slugs from titles in a single pass. ASCII is handled inline, characters below
+ * U+20D0 (Latin-1, Latin Extended-A/B with all Polish letters, Latin Extended Additional,
+ * and the dashes, quotes and currency signs of General Punctuation and Currency Symbols)
+ * go through a transliteration table computed once at class load, and rarer characters are
+ * transliterated the same way on the fly. Characters without a Latin transliteration act as
+ * word separators.
+ */
 public class SlugGenerator {
 
-    private static final Pattern LEADING_TRAILING_HYPHENS = Pattern.compile("^-|-$");
+    private static final char SEPARATOR = '-';
+    private static final int TABLE_SIZE = 0x20D0;
+
+    /**
+     * Transliteration of every char below {@link #TABLE_SIZE}: {@code null} marks a word
+     * separator, an empty string a character that is dropped (combining marks).
+     */
+    private static final String[] TABLE = createTable();
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
 
     public static String createSlugFromTitle(String title) {
-        if (title == null || title.trim().isEmpty()) {
+        if (title == null || title.isBlank()) {
             return "";
         }
 
-        String normalized = normalizeDiacritics(title);
+        StringBuilder slug = BUFFER.get();
+        slug.setLength(0);
+        boolean pendingSeparator = false;
+
+        for (int i = 0; i < title.length(); i++) {
+            char c = title.charAt(i);
+            if (c < 0x80) {
+                if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                    pendingSeparator = append(slug, pendingSeparator, c);
+                } else if (c >= 'A' && c <= 'Z') {
+                    pendingSeparator = append(slug, pendingSeparator, (char) (c + ('a' - 'A')));
+                } else {
+                    pendingSeparator = true;
+                }
+                continue;
+            }
+
+            String mapped = c < TABLE_SIZE ? TABLE[c] : transliterate(c);
+            if (mapped == null) {
+                pendingSeparator = true;
+            } else if (!mapped.isEmpty()) {
+                if (pendingSeparator && !slug.isEmpty()) {
+                    slug.append(SEPARATOR);
+                }
+                slug.append(mapped);
+                pendingSeparator = false;
+            }
+        }
+
+        return slug.toString();
+    }
+
+    /**
+     * Deterministic alternative for a slug that is already taken by another title: the
+     * same title always gets the same suffix, so re-ingesting it is idempotent.
+     *
+     * @param attempt 0 for the first alternative, increased while the result is still taken
+     */
+    public static String createCollisionSlug(String slug, String title, int attempt) {
+        String suffix = Integer.toUnsignedString(fnv1a(title), 36);
+        if (attempt > 0) {
+            suffix = suffix + SEPARATOR + (attempt + 1);
+        }
+        return withSuffix(slug, suffix);
+    }
+
+    /**
+     * Last-resort alternative for a slug whose collision alternatives are all taken.
+     */
+    public static String createRandomSlug(String slug) {
+        return withSuffix(slug, Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36));
+    }
 
-        normalized = normalized.replace('Ł', 'L').replace('ł', 'l');
+    private static String withSuffix(String slug, String suffix) {
+        return slug == null || slug.isEmpty() ? suffix : slug + SEPARATOR + suffix;
+    }
 
-        String lowercased = normalized.toLowerCase(Locale.ENGLISH);
+    private static boolean append(StringBuilder slug, boolean pendingSeparator, char c) {
+        if (pendingSeparator && !slug.isEmpty()) {
+            slug.append(SEPARATOR);
+        }
+        slug.append(c);
+        return false;
+    }
 
-        String replacedChars = lowercased.replaceAll("[^a-z0-9]+", "-");
+    private static int fnv1a(String value) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
 
-       return LEADING_TRAILING_HYPHENS.matcher(replacedChars).replaceAll("");
+    private static String[] createTable() {
+        String[] table = new String[TABLE_SIZE];
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            table[c] = transliterate(c);
+        }
 
+        override(table, "Łł", "l");
+        override(table, "Ŀŀ", "l");
+        override(table, "Đđ", "d");
+        override(table, "Ðð", "d");
+        override(table, "Øø", "o");
+        override(table, "Ħħ", "h");
+        override(table, "ı", "i");
+        override(table, "ßẞ", "ss");
+        override(table, "Ææ", "ae");
+        override(table, "Œœ", "oe");
+        override(table, "Þþ", "th");
+        return table;
     }
 
-    private static String normalizeDiacritics(String input) {
-        if (input == null) {
+    /**
+     * Strips diacritics the way the table does: {@code null} for a separator, an empty
+     * string for a combining mark.
+     */
+    private static String transliterate(char c) {
+        int type = Character.getType(c);
+        if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK) {
+            return "";
+        }
+        if (!Character.isLetterOrDigit(c)) {
             return null;
         }
-        String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
-        return normalized.replaceAll("\\p{M}", "");
+
+        String stripped = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ENGLISH);
+        return stripped.matches("[a-z0-9]+") ? stripped : null;
+    }
+
+    private static void override(String[] table, String chars, String transliteration) {
+        for (int i = 0; i < chars.length(); i++) {
+            table[chars.charAt(i)] = transliteration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package com.example.backend.domain.service.external.ai;
+
+import com.example.backend.domain.dto.AiArticleRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes articles to the AI module's {@code ingest_article} Dramatiq queue instead of
+ * calling its HTTP API, so slowdowns of the AI workers only make the queue grow.
+ * <p>
+ * Articles are published in batches and each batch waits for its publisher confirms: an
+ * article counts as handed over only once the broker acked it and did not return it as
+ * unroutable (e.g. because the AI workers never declared the queue).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.ai.transport", havingValue = "amqp")
+public class AiAmqpPublisher implements AiArticlePublisher {
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${article.ai.amqp.article-queue:ingest_article}")
+    private String articleQueue;
+
+    @Value("${article.ai.amqp.article-actor:ingest_article}")
+    private String articleActor;
+
+    @Value("${article.ai.batch-size:20}")
+    private int batchSize;
+
+    @Value("${article.ai.amqp.confirm-timeout:10s}")
+    private Duration confirmTimeout;
+
+    @Override
+    public Flux<AiArticleRequest> publish(Flux<AiArticleRequest> articles) {
+        return articles
+                .buffer(batchSize)
+                .concatMap(batch -> Mono.fromCallable(() -> publishBatch(batch)).subscribeOn(Schedulers.boundedElastic()))
+                .flatMapIterable(accepted -> accepted);
+    }
+
+    List<AiArticleRequest> publishBatch(List<AiArticleRequest> batch) {
+        List<CorrelationData> confirms = new ArrayList<>(batch.size());
+        try {
+            for (AiArticleRequest article : batch) {
+                CorrelationData correlation = new CorrelationData(article.external_id());
+                rabbitTemplate.convertAndSend("", articleQueue, toMessage(article), correlation);
+                confirms.add(correlation);
+            }
+        } catch (AmqpException e) {
+            log.error("Failed to publish AI batch of {} articles: {}", batch.size(), e.getMessage());
+        }
+
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        List<AiArticleRequest> accepted = new ArrayList<>(confirms.size());
+        for (int i = 0; i < confirms.size(); i++) {
+            if (isConfirmed(confirms.get(i), deadline)) {
+                accepted.add(batch.get(i));
+            }
+        }
+
+        articlesCounter("accepted").increment(accepted.size());
+        articlesCounter("failed").increment(batch.size() - accepted.size());
+        log.info("Published AI batch: {} confirmed, {} failed", accepted.size(), batch.size() - accepted.size());
+        return accepted;
+    }
+
+    private boolean isConfirmed(CorrelationData correlation, long deadline) {
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture()
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!confirm.isAck()) {
+                log.warn("Broker rejected article {}: {}", correlation.getId(), confirm.getReason());
+                return false;
+            }
+            if (correlation.getReturned() != null) {
+                log.warn("Article {} is unroutable: {}", correlation.getId(), correlation.getReturned().getReplyText());
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("No publisher confirm for article {}: {}", correlation.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Dramatiq message envelope; the actor receives the article as its only argument.
+     */
+    private Map<String, Object> toMessage(AiArticleRequest request) {
+        return Map.of(
+                "queue_name", articleQueue,
+                "actor_name", articleActor,
+                "args", List.of(request),
+                "kwargs", Map.of(),
+                "options", Map.of(),
+                "message_id", UUID.randomUUID().toString(),
+                "message_timestamp", System.currentTimeMillis()
+        );
+    }
+
+    private Counter articlesCounter(String result) {
+        return Counter.builder("ai.dispatch.articles").tag("result", result).register(meterRegistry);
+    }
+}
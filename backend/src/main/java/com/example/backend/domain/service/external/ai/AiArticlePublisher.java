@@ -0,0 +1,18 @@
+package com.example.backend.domain.service.external.ai;
+
+import com.example.backend.domain.dto.AiArticleRequest;
+import reactor.core.publisher.Flux;
+
+/**
+ * Hands stored articles over to the AI module. The transport is selected with
+ * {@code article.ai.transport}: {@code http} ({@link AiDispatchClient}) or
+ * {@code amqp} ({@link AiAmqpPublisher}).
+ */
+public interface AiArticlePublisher {
+
+    /**
+     * @return articles the AI module (or its broker) has taken responsibility for;
+     * articles missing from the result should be offered again later
+     */
+    Flux<AiArticleRequest> publish(Flux<AiArticleRequest> articles);
+}
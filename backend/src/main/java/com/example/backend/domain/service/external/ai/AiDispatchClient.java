@@ -0,0 +1,172 @@
+package com.example.backend.domain.service.external.ai;
+
+import com.example.backend.domain.dto.AiArticleBatchRequest;
+import com.example.backend.domain.dto.AiArticleBatchResponse;
+import com.example.backend.domain.dto.AiArticleRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends stored articles to the AI module in batches ({@code POST /articles/batch}).
+ * <p>
+ * The number of batches in flight is governed by an {@link AimdLimiter}: it grows while the
+ * AI module answers quickly and is cut as soon as requests fail or get slow, so bursts are
+ * spread out instead of flooding the container. Failed batches are retried with jittered
+ * exponential backoff; articles rejected individually by the AI module are not retried.
+ * Metrics: {@code ai.dispatch.limit}, {@code ai.dispatch.in-flight},
+ * {@code ai.dispatch.articles} (tagged {@code result}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.ai.transport", havingValue = "http", matchIfMissing = true)
+public class AiDispatchClient implements AiArticlePublisher {
+    private static final String BATCH_ENDPOINT = "/articles/batch";
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${article.ai.url:http://ai:5000}")
+    private String aiUrl;
+
+    @Value("${article.ai.batch-size:20}")
+    private int batchSize;
+
+    @Value("${article.ai.batch-max-wait:1s}")
+    private Duration batchMaxWait;
+
+    @Value("${article.ai.request-timeout:30s}")
+    private Duration requestTimeout;
+
+    @Value("${article.ai.concurrency.initial:2}")
+    private int initialConcurrency;
+
+    @Value("${article.ai.concurrency.min:1}")
+    private int minConcurrency;
+
+    @Value("${article.ai.concurrency.max:8}")
+    private int maxConcurrency;
+
+    @Value("${article.ai.concurrency.backoff-ratio:0.5}")
+    private double backoffRatio;
+
+    @Value("${article.ai.concurrency.latency-threshold:5s}")
+    private Duration latencyThreshold;
+
+    @Value("${article.ai.retry.max-attempts:4}")
+    private int maxRetries;
+
+    @Value("${article.ai.retry.min-backoff:500ms}")
+    private Duration minBackoff;
+
+    @Value("${article.ai.retry.max-backoff:20s}")
+    private Duration maxBackoff;
+
+    private WebClient client;
+    private AimdLimiter limiter;
+
+    @PostConstruct
+    void init() {
+        client = webClient.mutate().baseUrl(aiUrl).build();
+        limiter = new AimdLimiter(initialConcurrency, minConcurrency, maxConcurrency, backoffRatio, latencyThreshold);
+        Gauge.builder("ai.dispatch.limit", limiter, AimdLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("ai.dispatch.in-flight", limiter, AimdLimiter::getInFlight).register(meterRegistry);
+    }
+
+    /**
+     * Dispatches articles as they arrive, grouping them into batches of up to
+     * {@code batch-size} articles or {@code batch-max-wait}.
+     *
+     * @return articles accepted by the AI module
+     */
+    @Override
+    public Flux<AiArticleRequest> publish(Flux<AiArticleRequest> articles) {
+        return articles
+                .bufferTimeout(batchSize, batchMaxWait, true)
+                .flatMap(this::sendBatch, maxConcurrency);
+    }
+
+    private Flux<AiArticleRequest> sendBatch(List<AiArticleRequest> batch) {
+        AiArticleBatchRequest request = new AiArticleBatchRequest(batch);
+
+        return Mono.usingWhen(
+                        limiter.acquire(),
+                        permit -> post(request),
+                        permit -> Mono.fromRunnable(permit::onSuccess),
+                        (permit, error) -> Mono.fromRunnable(permit::onFailure),
+                        permit -> Mono.fromRunnable(permit::onCancel)
+                )
+                .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(0.5)
+                        .filter(AiDispatchClient::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("Retrying AI batch of {} articles (attempt {}): {}",
+                                batch.size(), signal.totalRetries() + 1, signal.failure().getMessage())))
+                .map(response -> accepted(batch, response))
+                .onErrorResume(error -> {
+                    log.error("Failed to send AI batch of {} articles: {}", batch.size(), error.getMessage());
+                    articlesCounter("failed").increment(batch.size());
+                    return Mono.just(List.of());
+                })
+                .flatMapIterable(accepted -> accepted);
+    }
+
+    private Mono<AiArticleBatchResponse> post(AiArticleBatchRequest request) {
+        return client.post()
+                .uri(BATCH_ENDPOINT)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AiArticleBatchResponse.class)
+                .timeout(requestTimeout)
+                .flatMap(response -> response.data() == null
+                        ? Mono.error(new IllegalStateException("AI batch rejected: " + response.error()))
+                        : Mono.just(response));
+    }
+
+    private List<AiArticleRequest> accepted(List<AiArticleRequest> batch, AiArticleBatchResponse response) {
+        List<AiArticleBatchResponse.Failure> failed = response.data().failed() != null ? response.data().failed() : List.of();
+        Set<String> failedIds = new HashSet<>();
+        for (AiArticleBatchResponse.Failure failure : failed) {
+            log.error("AI module rejected article {}: {}", failure.external_id(), failure.error());
+            failedIds.add(failure.external_id());
+        }
+
+        List<AiArticleRequest> accepted = batch.stream()
+                .filter(article -> !failedIds.contains(article.external_id()))
+                .toList();
+        articlesCounter("accepted").increment(accepted.size());
+        articlesCounter("rejected").increment(batch.size() - accepted.size());
+        log.info("Sent AI batch: {} accepted, {} rejected", accepted.size(), batch.size() - accepted.size());
+        return accepted;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError() || responseException.getStatusCode().value() == 429;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private Counter articlesCounter(String result) {
+        return Counter.builder("ai.dispatch.articles").tag("result", result).register(meterRegistry);
+    }
+}
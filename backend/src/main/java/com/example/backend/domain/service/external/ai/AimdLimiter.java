@@ -0,0 +1,135 @@
+package com.example.backend.domain.service.external.ai;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Concurrency limit adjusted with additive increase / multiplicative decrease: every call
+ * that succeeds within the latency threshold raises the limit by about one per window of
+ * calls, every failed or slow call cuts it by {@code backoffRatio}. Callers over the limit
+ * wait in FIFO order without blocking a thread.
+ */
+class AimdLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+
+    AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration latencyThreshold) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            synchronized (this) {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                } else {
+                    Waiter waiter = new Waiter(sink);
+                    waiting.addLast(waiter);
+                    sink.onCancel(waiter::cancel);
+                    return;
+                }
+            }
+            sink.success(new Permit());
+        });
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @param success outcome of the call, {@code null} when it was cancelled and says nothing about the load
+     */
+    private void release(Boolean success, long latencyNanos) {
+        List<Waiter> admitted = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            if (Boolean.TRUE.equals(success) && latencyNanos <= latencyThresholdNanos) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            } else if (success != null) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            }
+            while (inFlight < (int) limit && !waiting.isEmpty()) {
+                Waiter waiter = waiting.pollFirst();
+                Permit permit = new Permit();
+                waiter.permit = permit;
+                if (waiter.claimed.compareAndSet(false, true)) {
+                    inFlight++;
+                    admitted.add(waiter);
+                }
+            }
+        }
+        admitted.forEach(waiter -> waiter.sink.success(waiter.permit));
+    }
+
+    /**
+     * Slot of a single call; released exactly once with its outcome.
+     */
+    class Permit {
+        private final long acquiredAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void onSuccess() {
+            if (released.compareAndSet(false, true)) {
+                release(true, System.nanoTime() - acquiredAt);
+            }
+        }
+
+        void onFailure() {
+            if (released.compareAndSet(false, true)) {
+                release(false, System.nanoTime() - acquiredAt);
+            }
+        }
+
+        void onCancel() {
+            if (released.compareAndSet(false, true)) {
+                release(null, 0);
+            }
+        }
+    }
+
+    /**
+     * Caller waiting for a slot. Granting and cancelling race for {@link #claimed}; a slot
+     * granted to a caller that cancelled in the meantime is handed back.
+     */
+    private class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile Permit permit;
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        void cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                synchronized (AimdLimiter.this) {
+                    waiting.remove(this);
+                }
+            } else if (permit != null) {
+                permit.onCancel();
+            }
+        }
+    }
+}
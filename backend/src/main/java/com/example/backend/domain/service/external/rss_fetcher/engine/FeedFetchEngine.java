@@ -0,0 +1,110 @@
+package com.example.backend.domain.service.external.rss_fetcher.engine;
+
+import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.service.external.rss_fetcher.fetcher.Fetcher;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs feed downloads on virtual threads. Each feed has a deadline for the whole read, hosts
+ * are limited to a fixed number of parallel requests, and a failing or slow feed only fails
+ * its own stream, so the caller can discard its pending watermark and validators.
+ * <p>
+ * The feed is read into a bounded buffer independently of downstream demand, so a slow
+ * consumer holds back processing but never keeps the connection (or host permit) open.
+ * The host permit belongs to the blocking read: a cancelled or timed-out stream interrupts
+ * the read, and the permit is only released once the read and the close of the response
+ * have actually finished.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedFetchEngine {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    @Value("${article.fetch.feed-timeout-ms:20000}")
+    private long feedTimeoutMs;
+
+    @Value("${article.fetch.max-concurrent-per-host:2}")
+    private int maxConcurrentPerHost;
+
+    @Value("${article.fetch.max-buffered-items:1000}")
+    private int maxBufferedItems;
+
+    /**
+     * Streams new items of a single feed. The stream fails with a {@link TimeoutException}
+     * when the feed is not read within {@code feed-timeout-ms}, however steadily it trickles
+     * items, and with an overflow error when more than {@code max-buffered-items} items wait
+     * for the consumer.
+     */
+    public Flux<ArticleDto> stream(Fetcher fetcher, String url) {
+        Semaphore permits = hostPermits.computeIfAbsent(hostOf(url), host -> new Semaphore(maxConcurrentPerHost));
+        return Flux.defer(() -> {
+                    long deadline = System.nanoTime() + Duration.ofMillis(feedTimeoutMs).toNanos();
+                    return Flux.<ArticleDto>create(sink -> {
+                                Future<?> read = executor.submit(() -> read(fetcher, url, permits, sink));
+                                sink.onCancel(() -> read.cancel(true));
+                            })
+                            .timeout(untilDeadline(deadline), item -> untilDeadline(deadline),
+                                    Flux.error(() -> new TimeoutException("Feed not read within " + feedTimeoutMs + " ms")));
+                })
+                .onBackpressureBuffer(maxBufferedItems)
+                .doOnComplete(() -> log.info("Finished reading {}", url))
+                .doOnError(error -> log.warn("Feed {} failed: {}", url, error.getMessage()));
+    }
+
+    /**
+     * Reads the feed on the current (virtual) thread. The fetcher's stream is synchronous, so
+     * when this returns the response has been closed.
+     */
+    private static void read(Fetcher fetcher, String url, Semaphore permits, FluxSink<ArticleDto> sink) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            return;
+        }
+        try {
+            fetcher.stream(url)
+                    .takeWhile(item -> !sink.isCancelled())
+                    .doOnNext(sink::next)
+                    .blockLast();
+            sink.complete();
+        } catch (RuntimeException e) {
+            sink.error(Exceptions.unwrap(e));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static Mono<Long> untilDeadline(long deadlineNanos) {
+        return Mono.delay(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())));
+    }
+
+    private static String hostOf(String url) {
+        String host = URI.create(url).getHost();
+        return host != null ? host : url;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
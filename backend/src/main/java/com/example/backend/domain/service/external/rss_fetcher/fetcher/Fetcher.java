@@ -2,8 +2,18 @@ package com.example.backend.domain.service.external.rss_fetcher.fetcher;
 
 import com.example.backend.domain.dto.article.ArticleDto;
 
-import java.util.List;
+import reactor.core.publisher.Flux;
 
 public interface Fetcher {
-    List<ArticleDto> fetch();
+    /**
+     * Name of the feed format handled by this fetcher, referenced by feeds in {@code article.polling.feeds}.
+     */
+    String getSource();
+
+    /**
+     * Streams items of a single feed that were not ingested yet. Items are read and parsed
+     * lazily on the subscribing thread, as they are requested, and the feed connection is
+     * closed before the stream terminates.
+     */
+    Flux<ArticleDto> stream(String url);
 }
@@ -1,45 +1,49 @@
 package com.example.backend.domain.service.external.rss_fetcher.fetcher;
 
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.Unmarshaller;
+import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.service.external.rss_fetcher.mapper.Mapper;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedPoll;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedWatermarkService;
+import com.example.backend.domain.service.external.rss_fetcher.transport.FeedItemReader;
+import com.example.backend.domain.service.external.rss_fetcher.transport.FeedTransport;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-
-import java.io.InputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import reactor.core.publisher.Flux;
 
 @Slf4j
-public abstract class RssFetcher<T> {
+@RequiredArgsConstructor
+public abstract class RssFetcher {
+
+    private final FeedTransport feedTransport;
+    private final FeedWatermarkService feedWatermarkService;
+
+    /**
+     * Streams the feed item by item into the mapper. Items are parsed only when requested
+     * downstream, reading stops at the feed watermark and items that were already ingested
+     * are dropped before mapping. Every subscription is a new {@link FeedPoll}.
+     */
+    protected <I extends RssItem> Flux<ArticleDto> streamRss(String urlString, Class<I> itemClass, Mapper<I> mapper) {
+        return Flux.defer(() -> {
+            FeedPoll poll = feedWatermarkService.begin(urlString);
+            return Flux.using(
+                            () -> feedTransport.stream(urlString, itemClass, feedWatermarkService.since(urlString)),
+                            opened -> opened.<Flux<I>>map(items -> Flux.fromIterable(() -> items)).orElseGet(Flux::empty),
+                            opened -> opened.ifPresent(items -> close(poll, items))
+                    )
+                    .filter(item -> feedWatermarkService.accept(poll, item))
+                    .map(mapper::map);
+        });
+    }
 
-    protected T fetchRss(String urlString, Class<T> clazz) {
+    private static void close(FeedPoll poll, FeedItemReader<?> items) {
         try {
-            log.info("Fetching RSS from: {}", urlString);
-            HttpClient client = HttpClient.newHttpClient();
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(urlString))
-                    .GET()
-                    .build();
-
-            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-
-            if (response.statusCode() != 200) {
-                log.error("Failed to fetch RSS: {}", urlString);
-                return null;
-            }
-
-            InputStream inputStream = response.body();
-            JAXBContext jaxbContext = JAXBContext.newInstance(clazz);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            T result = (T) unmarshaller.unmarshal(inputStream);
-
-            inputStream.close();
-            return result;
+            items.close();
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
-            return null;
+            log.warn("Failed to close RSS stream: {}", e.getMessage());
+            return;
+        }
+        if (items.isComplete()) {
+            poll.complete(items.validators());
         }
     }
 }
@@ -0,0 +1,14 @@
+package com.example.backend.domain.service.external.rss_fetcher.fetcher;
+
+/**
+ * Common view of a single {@code <item>} element, shared by all feed formats.
+ */
+public interface RssItem {
+    String getTitle();
+
+    String getLink();
+
+    String getDescription();
+
+    String getPubDate();
+}
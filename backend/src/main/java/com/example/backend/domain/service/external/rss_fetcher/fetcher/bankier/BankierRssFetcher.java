@@ -4,34 +4,31 @@ import com.example.backend.domain.dto.article.ArticleDto;
 import com.example.backend.domain.service.external.rss_fetcher.fetcher.Fetcher;
 import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssFetcher;
 import com.example.backend.domain.service.external.rss_fetcher.mapper.BankierRssNewsMapper;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedWatermarkService;
+import com.example.backend.domain.service.external.rss_fetcher.transport.FeedTransport;
 import org.springframework.stereotype.Component;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
 
 @Component
-@RequiredArgsConstructor
-public class BankierRssFetcher extends RssFetcher<BankierRssObject> implements Fetcher {
+public class BankierRssFetcher extends RssFetcher implements Fetcher {
 
-    private final BankierRssNewsMapper bankierRssNewsMapper;
+    private static final String SOURCE = "bankier";
 
-    private static final String GENERAL_NEWS_URL = "https://www.bankier.pl/rss/wiadomosci.xml";
-    private static final String COMPANIES_NEWS_URL = "https://www.bankier.pl/rss/firma.xml";
-    private static final String CURRENCIES_NEWS_URL = "https://www.bankier.pl/rss/waluty.xml";
-    private static final String STOCK_MARKET_NEWS_URL = "https://www.bankier.pl/rss/gielda.xml";
+    private final BankierRssNewsMapper bankierRssNewsMapper;
 
-    private static final List<String> urls =
-            List.of(GENERAL_NEWS_URL, COMPANIES_NEWS_URL, CURRENCIES_NEWS_URL, STOCK_MARKET_NEWS_URL);
+    public BankierRssFetcher(BankierRssNewsMapper bankierRssNewsMapper, FeedTransport feedTransport,
+                             FeedWatermarkService feedWatermarkService) {
+        super(feedTransport, feedWatermarkService);
+        this.bankierRssNewsMapper = bankierRssNewsMapper;
+    }
 
     @Override
-    public List<ArticleDto> fetch() {
-       List<BankierRssObject> newsObjects = urls.stream().map(
-                url -> fetchRss(url, BankierRssObject.class)
-        ).toList();
+    public String getSource() {
+        return SOURCE;
+    }
 
-        return newsObjects.stream()
-                .flatMap(newsObject -> newsObject.getChannel().getItems().stream())
-                .map(bankierRssNewsMapper::map)
-                .toList();
+    @Override
+    public Flux<ArticleDto> stream(String url) {
+        return streamRss(url, BankierRssObject.Item.class, bankierRssNewsMapper::map);
     }
 }
@@ -1,12 +1,12 @@
 package com.example.backend.domain.service.external.rss_fetcher.fetcher.bankier;
 
+import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssItem;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import lombok.Getter;
 import lombok.ToString;
-import org.jsoup.Jsoup;
 
 import java.util.List;
 
@@ -38,7 +38,7 @@ public class BankierRssObject {
 
     @Getter
     @XmlAccessorType(XmlAccessType.FIELD)
-    public static class Item {
+    public static class Item implements RssItem {
         @XmlElement(name = "title")
         private String title;
 
@@ -50,20 +50,5 @@ public class BankierRssObject {
 
         @XmlElement(name = "pubDate")
         private String pubDate;
-
-        public String getBackgroundImage() {
-            if (description == null || description.isEmpty()) {
-                return "";
-            }
-            return Jsoup.parse(description).select("img").attr("src");
-        }
-
-        public String getParsedDescription() {
-            if (description == null || description.isEmpty()) {
-                return "";
-            }
-
-            return Jsoup.parse(description).text();
-        }
     }
 }
@@ -1,9 +1,9 @@
 package com.example.backend.domain.service.external.rss_fetcher.fetcher.polsat;
 
+import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssItem;
 import jakarta.xml.bind.annotation.*;
 import lombok.Getter;
 import lombok.ToString;
-import org.jsoup.Jsoup;
 
 import java.util.List;
 
@@ -35,7 +35,7 @@ public class PolastNewsRssObject {
 
     @Getter
     @XmlAccessorType(XmlAccessType.FIELD)
-    public static class Item {
+    public static class Item implements RssItem {
         @XmlElement(name = "title")
         private String title;
 
@@ -57,12 +57,5 @@ public class PolastNewsRssObject {
             @XmlAttribute(name = "url")
             private String url;
         }
-
-        public String getParsedDescription() {
-            if (description == null || description.isEmpty()) {
-                return "";
-            }
-            return Jsoup.parse(description).text();
-        }
     }
 }
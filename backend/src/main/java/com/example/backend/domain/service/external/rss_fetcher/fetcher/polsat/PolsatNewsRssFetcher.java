@@ -4,26 +4,31 @@ import com.example.backend.domain.dto.article.ArticleDto;
 import com.example.backend.domain.service.external.rss_fetcher.fetcher.Fetcher;
 import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssFetcher;
 import com.example.backend.domain.service.external.rss_fetcher.mapper.PolsatNewsRssNewsMapper;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedWatermarkService;
+import com.example.backend.domain.service.external.rss_fetcher.transport.FeedTransport;
 import org.springframework.stereotype.Component;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
 
 @Component
-@RequiredArgsConstructor
-public class PolsatNewsRssFetcher extends RssFetcher<PolastNewsRssObject> implements Fetcher {
+public class PolsatNewsRssFetcher extends RssFetcher implements Fetcher {
+
+    private static final String SOURCE = "polsat";
 
     private final PolsatNewsRssNewsMapper polsatNewsRssNewsMapper;
 
-    private static final String RSS_URL = "https://www.polsatnews.pl/rss/biznes.xml";
+    public PolsatNewsRssFetcher(PolsatNewsRssNewsMapper polsatNewsRssNewsMapper, FeedTransport feedTransport,
+                                FeedWatermarkService feedWatermarkService) {
+        super(feedTransport, feedWatermarkService);
+        this.polsatNewsRssNewsMapper = polsatNewsRssNewsMapper;
+    }
+
+    @Override
+    public String getSource() {
+        return SOURCE;
+    }
 
     @Override
-    public List<ArticleDto> fetch() {
-        return fetchRss(RSS_URL, PolastNewsRssObject.class)
-                .getChannel()
-                .getItems()
-                .stream()
-                .map(polsatNewsRssNewsMapper::map)
-                .toList();
+    public Flux<ArticleDto> stream(String url) {
+        return streamRss(url, PolastNewsRssObject.Item.class, polsatNewsRssNewsMapper::map);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.backend.domain.service.external.rss_fetcher.mapper;
 
 import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.service.article.description.DescriptionExtractor;
 import com.example.backend.domain.service.article.slug.SlugGenerator;
 import com.example.backend.domain.service.external.rss_fetcher.fetcher.bankier.BankierRssObject;
 import org.springframework.stereotype.Component;
@@ -21,8 +22,9 @@ public class BankierRssNewsMapper implements Mapper<BankierRssObject.Item> {
 
         String title = item.getTitle();
         String slug = title != null ? SlugGenerator.createSlugFromTitle(title) : null;
-        String description = item.getParsedDescription();
-        String imageUrl = item.getBackgroundImage();
+        DescriptionExtractor.ExtractedDescription extracted = DescriptionExtractor.extract(item.getDescription());
+        String description = extracted.text();
+        String imageUrl = extracted.imageUrl();
         String url = item.getLink();
         Date publishedAt = parseRFC1123Date(item.getPubDate());
 
@@ -1,6 +1,7 @@
 package com.example.backend.domain.service.external.rss_fetcher.mapper;
 
 import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.service.article.description.DescriptionExtractor;
 import com.example.backend.domain.service.article.slug.SlugGenerator;
 import com.example.backend.domain.service.external.rss_fetcher.fetcher.polsat.PolastNewsRssObject;
 import org.springframework.stereotype.Component;
@@ -19,9 +20,10 @@ public class PolsatNewsRssNewsMapper implements Mapper<PolastNewsRssObject.Item>
 
         String title = item.getTitle();
         String slug = title != null ? SlugGenerator.createSlugFromTitle(title) : null;
-        String description = item.getParsedDescription();
+        DescriptionExtractor.ExtractedDescription extracted = DescriptionExtractor.extract(item.getDescription());
+        String description = extracted.text();
         String url = item.getLink();
-        String imageUrl = (item.getEnclosure() != null) ? item.getEnclosure().getUrl() : null;
+        String imageUrl = (item.getEnclosure() != null) ? item.getEnclosure().getUrl() : extracted.imageUrl();
         Date publishedAt = Common.parseRFC1123Date(item.getPubDate());
 
         return ArticleDto.builder()
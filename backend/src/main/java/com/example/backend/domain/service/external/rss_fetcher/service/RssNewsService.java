@@ -1,26 +1,36 @@
 package com.example.backend.domain.service.external.rss_fetcher.service;
 
 import com.example.backend.domain.dto.article.ArticleDto;
+import com.example.backend.domain.service.external.rss_fetcher.engine.FeedFetchEngine;
 import com.example.backend.domain.service.external.rss_fetcher.fetcher.Fetcher;
-import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssFetcher;
-import com.example.backend.domain.service.external.rss_fetcher.fetcher.bankier.BankierRssObject;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
-public class RssNewsService extends RssFetcher<BankierRssObject> {
-    private final List<Fetcher> fetchers;
+public class RssNewsService {
+    private final Map<String, Fetcher> fetchers;
+    private final FeedFetchEngine feedFetchEngine;
 
-    public List<ArticleDto> fetchNewArticles() {
-        List<ArticleDto> articles = new ArrayList<>();
-        for (Fetcher fetcher : fetchers) {
-            articles.addAll(fetcher.fetch());
+    public RssNewsService(List<Fetcher> fetchers, FeedFetchEngine feedFetchEngine) {
+        this.fetchers = fetchers.stream().collect(Collectors.toMap(Fetcher::getSource, Function.identity()));
+        this.feedFetchEngine = feedFetchEngine;
+    }
+
+    public Set<String> getSources() {
+        return fetchers.keySet();
+    }
+
+    public Flux<ArticleDto> streamNewArticles(String source, String url) {
+        Fetcher fetcher = fetchers.get(source);
+        if (fetcher == null) {
+            throw new IllegalArgumentException("Unknown feed source: " + source);
         }
-        return articles;
+        return feedFetchEngine.stream(fetcher, url);
     }
 }
-
@@ -0,0 +1,63 @@
+package com.example.backend.domain.service.external.rss_fetcher.state;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Result of one poll of a feed: the items accepted so far and, once the feed was read to
+ * its end or up to the watermark, its cache validators. Nothing is stored until
+ * {@link FeedWatermarkService#commit(String)}. A committed or discarded poll is closed and
+ * ignores whatever a cancelled reader still hands to it.
+ */
+public class FeedPoll {
+    private final String url;
+    private final Set<String> keys = new LinkedHashSet<>();
+    private FeedWatermark newest;
+    private FeedValidators validators;
+    private boolean closed;
+
+    FeedPoll(String url) {
+        this.url = url;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    /**
+     * Remembers the validators of a feed that was read completely; they are stored
+     * together with the watermark.
+     */
+    public synchronized void complete(FeedValidators validators) {
+        if (!closed) {
+            this.validators = validators;
+        }
+    }
+
+    synchronized boolean add(String key, FeedWatermark candidate) {
+        if (closed || !keys.add(key)) {
+            return false;
+        }
+        if (newest == null || newest.isBefore(candidate)) {
+            newest = candidate;
+        }
+        return true;
+    }
+
+    synchronized void close() {
+        closed = true;
+    }
+
+    synchronized List<String> keys() {
+        return List.copyOf(keys);
+    }
+
+    synchronized FeedWatermark newest() {
+        return newest;
+    }
+
+    synchronized FeedValidators validators() {
+        return validators;
+    }
+}
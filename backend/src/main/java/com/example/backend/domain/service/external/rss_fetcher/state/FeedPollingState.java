@@ -0,0 +1,10 @@
+package com.example.backend.domain.service.external.rss_fetcher.state;
+
+import java.time.Duration;
+
+/**
+ * Learned polling interval of a feed together with the smoothed item arrival rate it was
+ * derived from.
+ */
+public record FeedPollingState(Duration interval, double itemsPerHour) {
+}
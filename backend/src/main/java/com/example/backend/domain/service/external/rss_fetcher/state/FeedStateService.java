@@ -0,0 +1,92 @@
+package com.example.backend.domain.service.external.rss_fetcher.state;
+
+import com.example.backend.infrastructure.database.entity.FeedStateEntity;
+import com.example.backend.infrastructure.database.repository.FeedStateJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the persistent state of every polled feed: HTTP cache validators (ETag /
+ * Last-Modified), the ingestion watermark and the learned polling interval. Validators are cached in memory and
+ * written through to the database, so conditional requests keep working after a restart.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedStateService {
+    private final FeedStateJpaRepository feedStateJpaRepository;
+
+    private final Map<String, FeedValidators> validators = new ConcurrentHashMap<>();
+
+    public FeedValidators getValidators(String url) {
+        return validators.computeIfAbsent(url, key -> feedStateJpaRepository.findById(key)
+                .map(state -> new FeedValidators(state.getEtag(), state.getLastModified()))
+                .orElse(FeedValidators.NONE));
+    }
+
+    public Optional<FeedWatermark> getWatermark(String url) {
+        return feedStateJpaRepository.findById(url)
+                .filter(state -> state.getLastPublishedAt() != null)
+                .map(state -> new FeedWatermark(state.getLastItemKey(), state.getLastPublishedAt().toInstant()));
+    }
+
+    /**
+     * Stores the outcome of a poll in one write.
+     *
+     * @param watermark  new watermark, or {@code null} when it did not advance
+     * @param validators validators of the downloaded feed, or {@code null} when it was not read completely
+     */
+    public void commit(String url, FeedWatermark watermark, FeedValidators validators) {
+        boolean validatorsChanged = validators != null && !Objects.equals(getValidators(url), validators);
+        if (watermark == null && !validatorsChanged) {
+            return;
+        }
+
+        FeedStateEntity state = findOrCreate(url);
+        if (watermark != null) {
+            state.setLastItemKey(watermark.lastItemKey());
+            state.setLastPublishedAt(Date.from(watermark.lastPublishedAt()));
+        }
+        if (validatorsChanged) {
+            state.setEtag(validators.etag());
+            state.setLastModified(validators.lastModified());
+        }
+        state.setUpdatedAt(new Date());
+        feedStateJpaRepository.save(state);
+
+        if (validatorsChanged) {
+            this.validators.put(url, validators);
+        }
+        log.debug("Stored state of {}: watermark {}, validators {}", url, watermark, validators);
+    }
+
+    public Optional<FeedPollingState> getPollingState(String url) {
+        return feedStateJpaRepository.findById(url)
+                .filter(state -> state.getPollIntervalMs() != null)
+                .map(state -> new FeedPollingState(
+                        Duration.ofMillis(state.getPollIntervalMs()),
+                        state.getItemsPerHour() != null ? state.getItemsPerHour() : 0
+                ));
+    }
+
+    public void updatePollingState(String url, FeedPollingState pollingState) {
+        FeedStateEntity state = findOrCreate(url);
+        state.setPollIntervalMs(pollingState.interval().toMillis());
+        state.setItemsPerHour(pollingState.itemsPerHour());
+        state.setUpdatedAt(new Date());
+        feedStateJpaRepository.save(state);
+    }
+
+    private FeedStateEntity findOrCreate(String url) {
+        return feedStateJpaRepository.findById(url)
+                .orElseGet(() -> FeedStateEntity.builder().url(url).build());
+    }
+}
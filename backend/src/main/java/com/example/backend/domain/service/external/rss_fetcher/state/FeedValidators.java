@@ -0,0 +1,9 @@
+package com.example.backend.domain.service.external.rss_fetcher.state;
+
+public record FeedValidators(String etag, String lastModified) {
+    public static final FeedValidators NONE = new FeedValidators(null, null);
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+}
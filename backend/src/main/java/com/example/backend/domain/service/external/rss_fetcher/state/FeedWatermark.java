@@ -0,0 +1,16 @@
+package com.example.backend.domain.service.external.rss_fetcher.state;
+
+import java.time.Instant;
+
+/**
+ * Newest item already ingested from a feed.
+ *
+ * @param lastItemKey     link (or title when the item has no link) of that item
+ * @param lastPublishedAt its publication date
+ */
+public record FeedWatermark(String lastItemKey, Instant lastPublishedAt) {
+
+    public boolean isBefore(FeedWatermark other) {
+        return lastPublishedAt.isBefore(other.lastPublishedAt);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.backend.domain.service.external.rss_fetcher.state;
+
+import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.backend.domain.service.external.rss_fetcher.mapper.Common.parseRFC1123Date;
+
+/**
+ * Decides which feed items are new, before they are mapped or reach the database.
+ * <p>
+ * Every feed has a persistent high-water mark (newest ingested item) and a small
+ * in-memory LRU of recently seen item keys. Items accepted during a run are kept in its
+ * {@link FeedPoll} and only become part of the watermark once {@link #commit(String)} is
+ * called after they were stored, so a failed run is retried on the next poll. The feed's
+ * cache validators are stored in the same step, otherwise a run that failed after the
+ * download would be answered with {@code 304} next time and its items never offered again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedWatermarkService {
+    private final FeedStateService feedStateService;
+
+    private final Map<String, Optional<FeedWatermark>> watermarks = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> recentKeys = new ConcurrentHashMap<>();
+    private final Map<String, FeedPoll> polls = new ConcurrentHashMap<>();
+
+    @Value("${article.fetch.initial-lookback-hours:24}")
+    private long initialLookbackHours;
+
+    @Value("${article.fetch.recent-keys-per-feed:512}")
+    private int recentKeysPerFeed;
+
+    /**
+     * Starts a new poll of the feed. A previous poll that was neither committed nor
+     * discarded is closed.
+     */
+    public FeedPoll begin(String url) {
+        FeedPoll poll = new FeedPoll(url);
+        FeedPoll previous = polls.put(url, poll);
+        if (previous != null) {
+            previous.close();
+        }
+        return poll;
+    }
+
+    /**
+     * @return publication date from which the feed has to be read
+     */
+    public Instant since(String url) {
+        return watermark(url)
+                .map(FeedWatermark::lastPublishedAt)
+                .orElseGet(() -> Instant.now().minus(Duration.ofHours(initialLookbackHours)));
+    }
+
+    /**
+     * Checks whether the item was not ingested yet and, if so, remembers it in the poll.
+     * Items without a publication date or published in the future, and items arriving after
+     * the poll was closed, are rejected.
+     */
+    public boolean accept(FeedPoll poll, RssItem item) {
+        String url = poll.url();
+        Date published = parseRFC1123Date(item.getPubDate());
+        if (published == null) {
+            return false;
+        }
+
+        Instant publishedAt = published.toInstant();
+        if (publishedAt.isAfter(Instant.now()) || publishedAt.isBefore(since(url))) {
+            return false;
+        }
+
+        String key = keyOf(item);
+        if (key == null || recentKeys(url).contains(key)) {
+            return false;
+        }
+
+        Optional<FeedWatermark> watermark = watermark(url);
+        if (watermark.isPresent()
+                && watermark.get().lastPublishedAt().equals(publishedAt)
+                && key.equals(watermark.get().lastItemKey())) {
+            return false;
+        }
+
+        return poll.add(key, new FeedWatermark(key, publishedAt));
+    }
+
+    /**
+     * Makes items accepted by the current poll part of the watermark and the LRU, and stores
+     * the validators of the poll together with the watermark.
+     */
+    public void commit(String url) {
+        FeedPoll poll = polls.remove(url);
+        if (poll == null) {
+            return;
+        }
+        poll.close();
+
+        Set<String> recent = recentKeys(url);
+        poll.keys().forEach(recent::add);
+
+        FeedWatermark newest = poll.newest();
+        Optional<FeedWatermark> current = watermark(url);
+        boolean advanced = newest != null && (current.isEmpty() || current.get().isBefore(newest));
+        feedStateService.commit(url, advanced ? newest : null, poll.validators());
+        if (advanced) {
+            watermarks.put(url, Optional.of(newest));
+            log.info("Advanced watermark of {} to {}", url, newest.lastPublishedAt());
+        }
+    }
+
+    /**
+     * Forgets the current poll, so its items are offered again and the feed is downloaded in
+     * full on the next poll.
+     */
+    public void discard(String url) {
+        FeedPoll poll = polls.remove(url);
+        if (poll != null) {
+            poll.close();
+        }
+    }
+
+    private Optional<FeedWatermark> watermark(String url) {
+        return watermarks.computeIfAbsent(url, feedStateService::getWatermark);
+    }
+
+    private Set<String> recentKeys(String url) {
+        return recentKeys.computeIfAbsent(url, ignored -> Collections.synchronizedSet(
+                Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > recentKeysPerFeed;
+                    }
+                })));
+    }
+
+    private static String keyOf(RssItem item) {
+        if (item.getLink() != null && !item.getLink().isBlank()) {
+            return item.getLink().trim();
+        }
+        return item.getTitle() != null ? item.getTitle().trim() : null;
+    }
+}
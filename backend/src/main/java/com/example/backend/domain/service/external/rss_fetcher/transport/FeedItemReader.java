@@ -0,0 +1,123 @@
+package com.example.backend.domain.service.external.rss_fetcher.transport;
+
+import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssItem;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedValidators;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+import static com.example.backend.domain.service.external.rss_fetcher.mapper.Common.parseRFC1123Date;
+
+/**
+ * Pull parser over the {@code <item>} elements of an open feed. Items are unmarshalled
+ * one at a time, so only the current item is held in memory. Feeds list the newest items
+ * first, so reading stops at the first item published before {@code since} and the rest
+ * of the document is never parsed.
+ */
+public class FeedItemReader<I extends RssItem> implements Iterator<I>, AutoCloseable {
+    private static final String ITEM = "item";
+
+    private final FeedResponse response;
+    private final XMLStreamReader reader;
+    private final Unmarshaller unmarshaller;
+    private final Class<I> itemClass;
+    private final Instant since;
+    private final LongConsumer parseTimeRecorder;
+
+    private I next;
+    private boolean finished;
+    private long parseNanos;
+
+    FeedItemReader(FeedResponse response, XMLStreamReader reader, Unmarshaller unmarshaller, Class<I> itemClass,
+                   Instant since, LongConsumer parseTimeRecorder) {
+        this.response = response;
+        this.reader = reader;
+        this.unmarshaller = unmarshaller;
+        this.itemClass = itemClass;
+        this.since = since;
+        this.parseTimeRecorder = parseTimeRecorder;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public I next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        I item = next;
+        next = null;
+        return item;
+    }
+
+    private I readNext() {
+        long start = System.nanoTime();
+        try {
+            while (reader.hasNext()) {
+                if (reader.isStartElement() && ITEM.equals(reader.getLocalName())) {
+                    I item = unmarshaller.unmarshal(reader, itemClass).getValue();
+                    return isBeforeWatermark(item) ? null : item;
+                }
+                reader.next();
+            }
+            return null;
+        } catch (XMLStreamException | JAXBException e) {
+            throw new IllegalStateException("Failed to read feed item", e);
+        } finally {
+            parseNanos += System.nanoTime() - start;
+        }
+    }
+
+    private boolean isBeforeWatermark(I item) {
+        if (since == null) {
+            return false;
+        }
+        Date publishedAt = parseRFC1123Date(item.getPubDate());
+        return publishedAt != null && publishedAt.toInstant().isBefore(since);
+    }
+
+    /**
+     * @return whether the feed was read up to its end or up to the watermark
+     */
+    public boolean isComplete() {
+        return finished;
+    }
+
+    /**
+     * Cache validators of the response. They may only be stored for a complete read, and
+     * only after its items were, so a failed run is downloaded in full next time.
+     */
+    public FeedValidators validators() {
+        return response.validators();
+    }
+
+    /**
+     * Releases the connection.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            parseTimeRecorder.accept(parseNanos);
+            response.close();
+        }
+    }
+}
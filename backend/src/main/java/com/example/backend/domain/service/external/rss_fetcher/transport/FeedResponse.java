@@ -0,0 +1,45 @@
+package com.example.backend.domain.service.external.rss_fetcher.transport;
+
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedValidators;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Open body of a feed that returned {@code 200}. The content is already decompressed;
+ * closing the response reports transferred bytes and total latency of the feed.
+ */
+class FeedResponse implements AutoCloseable {
+    private final CountingInputStream wire;
+    private final InputStream content;
+    private final FeedValidators validators;
+    private final Runnable onClose;
+
+    FeedResponse(CountingInputStream wire, InputStream content, FeedValidators validators, Runnable onClose) {
+        this.wire = wire;
+        this.content = content;
+        this.validators = validators;
+        this.onClose = onClose;
+    }
+
+    InputStream content() {
+        return content;
+    }
+
+    FeedValidators validators() {
+        return validators;
+    }
+
+    long bytesRead() {
+        return wire.getCount();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            content.close();
+        } finally {
+            onClose.run();
+        }
+    }
+}
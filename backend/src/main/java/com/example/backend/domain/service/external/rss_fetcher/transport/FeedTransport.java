@@ -0,0 +1,199 @@
+package com.example.backend.domain.service.external.rss_fetcher.transport;
+
+import com.example.backend.domain.service.external.rss_fetcher.fetcher.RssItem;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedStateService;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedValidators;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Single entry point for downloading feeds. Keeps one {@link HttpClient} per host so
+ * connections (and HTTP/2 sessions) are reused between polls, asks for compressed
+ * responses, sends conditional GETs and records per-feed metrics:
+ * {@code rss.feed.bytes}, {@code rss.feed.latency}, {@code rss.feed.parse} and
+ * {@code rss.feed.not-modified}, all tagged with the feed URL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTransport {
+    private static final int NOT_MODIFIED = 304;
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private final FeedStateService feedStateService;
+    private final JaxbContextRegistry jaxbContextRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+
+    @Value("${article.fetch.request-timeout-ms:15000}")
+    private long requestTimeoutMs;
+
+    /**
+     * Opens the feed for streaming. Items are parsed lazily while the returned reader is
+     * iterated, and reading stops at the first item published before {@code since}.
+     *
+     * @param since watermark; {@code null} reads the whole feed
+     * @return open reader that must be closed, or empty when the feed did not change since
+     * the last poll or could not be fetched
+     */
+    public <I extends RssItem> Optional<FeedItemReader<I>> stream(String url, Class<I> itemClass, Instant since) {
+        FeedResponse response = null;
+        try {
+            Optional<FeedResponse> opened = open(url);
+            if (opened.isEmpty()) {
+                return Optional.empty();
+            }
+            response = opened.get();
+
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(response.content());
+            return Optional.of(new FeedItemReader<>(
+                    response,
+                    reader,
+                    createUnmarshaller(itemClass),
+                    itemClass,
+                    since,
+                    nanos -> parseTimer(url).record(nanos, TimeUnit.NANOSECONDS)
+            ));
+        } catch (Exception e) {
+            log.error("Failed to open RSS stream {}: {}", url, e.getMessage(), e);
+            closeQuietly(response);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Sends a conditional GET for the feed.
+     *
+     * @return open response, or empty when the feed is unchanged or the server answered with an error
+     */
+    private Optional<FeedResponse> open(String url) throws IOException, InterruptedException {
+        log.info("Fetching RSS from: {}", url);
+        URI uri = URI.create(url);
+        long start = System.nanoTime();
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Accept-Encoding", "gzip")
+                .GET();
+
+        FeedValidators validators = feedStateService.getValidators(url);
+        if (validators.etag() != null) {
+            requestBuilder.header("If-None-Match", validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            requestBuilder.header("If-Modified-Since", validators.lastModified());
+        }
+
+        HttpResponse<InputStream> response = clientFor(uri)
+                .send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        if (response.statusCode() == NOT_MODIFIED) {
+            response.body().close();
+            notModifiedCounter(url).increment();
+            latencyTimer(url).record(Duration.ofNanos(System.nanoTime() - start));
+            log.info("RSS not modified since last poll: {}", url);
+            return Optional.empty();
+        }
+
+        if (response.statusCode() != 200) {
+            response.body().close();
+            log.error("Failed to fetch RSS: {} (status {})", url, response.statusCode());
+            return Optional.empty();
+        }
+
+        CountingInputStream wire = new CountingInputStream(response.body());
+        InputStream content = decode(wire, response.headers());
+        return Optional.of(new FeedResponse(wire, content, validatorsOf(response.headers()), () -> {
+            bytesCounter(url).increment(wire.getCount());
+            latencyTimer(url).record(Duration.ofNanos(System.nanoTime() - start));
+        }));
+    }
+
+    private Unmarshaller createUnmarshaller(Class<?> clazz) throws JAXBException {
+        return jaxbContextRegistry.get(clazz).createUnmarshaller();
+    }
+
+    private Timer parseTimer(String url) {
+        return Timer.builder("rss.feed.parse").tag("feed", url).register(meterRegistry);
+    }
+
+    private HttpClient clientFor(URI uri) {
+        String host = uri.getHost() != null ? uri.getHost() : uri.toString();
+        return clients.computeIfAbsent(host, key -> HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(requestTimeoutMs))
+                .build());
+    }
+
+    private static void closeQuietly(FeedResponse response) {
+        if (response == null) {
+            return;
+        }
+        try {
+            response.close();
+        } catch (IOException e) {
+            log.debug("Failed to close RSS response: {}", e.getMessage());
+        }
+    }
+
+    private static InputStream decode(InputStream body, HttpHeaders headers) throws IOException {
+        String encoding = headers.firstValue("Content-Encoding").orElse("").trim();
+        if (encoding.equalsIgnoreCase("gzip")) {
+            return new GZIPInputStream(body);
+        }
+        return body;
+    }
+
+    private static FeedValidators validatorsOf(HttpHeaders headers) {
+        return new FeedValidators(
+                headers.firstValue("ETag").orElse(null),
+                headers.firstValue("Last-Modified").orElse(null)
+        );
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private Counter bytesCounter(String url) {
+        return Counter.builder("rss.feed.bytes").baseUnit("bytes").tag("feed", url).register(meterRegistry);
+    }
+
+    private Counter notModifiedCounter(String url) {
+        return Counter.builder("rss.feed.not-modified").tag("feed", url).register(meterRegistry);
+    }
+
+    private Timer latencyTimer(String url) {
+        return Timer.builder("rss.feed.latency").tag("feed", url).register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.backend.domain.service.external.rss_fetcher.transport;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds each {@link JAXBContext} once per bound class. Contexts are thread-safe and
+ * expensive to create, unmarshallers are cheap and must not be shared.
+ */
+@Component
+public class JaxbContextRegistry {
+    private final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    public JAXBContext get(Class<?> clazz) {
+        return contexts.computeIfAbsent(clazz, JaxbContextRegistry::create);
+    }
+
+    private static JAXBContext create(Class<?> clazz) {
+        try {
+            return JAXBContext.newInstance(clazz);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Cannot create JAXB context for " + clazz.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.domain.service.impact;
+
+import com.example.backend.domain.dto.ArticleStockImpactBatchResult;
+import com.example.backend.domain.dto.ArticleStockImpactDto;
+import com.example.backend.domain.dto.ImpactNotificationJobDto;
+import com.example.backend.domain.dto.mapper.ImpactNotificationJobMapper;
+import com.example.backend.domain.service.user.UserService;
+import com.example.backend.domain.service.webpush.notification.WebPushNotificationService;
+import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
+import com.example.backend.infrastructure.database.entity.UserEntity;
+import com.example.backend.infrastructure.database.entity.enums.NotificationSeverity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Stores an impact reported by the AI module and notifies the users following the stock.
+ * Shared by the HTTP callbacks and the reply queue listener.
+ * <p>
+ * The {@code handle} methods push before returning; the {@code accept} methods only store
+ * the impacts and leave the pushes to {@link ImpactNotificationQueue}. Either way only new
+ * impacts and impacts more severe than the stored one are pushed, so retried callbacks and
+ * reprocessed articles stay silent.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleStockImpactHandler {
+    private final ArticleStockImpactService stockImpactService;
+    private final UserService userService;
+    private final WebPushNotificationService webPushNotificationService;
+    private final ImpactNotifier impactNotifier;
+    private final ImpactNotificationQueue impactNotificationQueue;
+
+    public ArticleStockImpactEntity handle(ArticleStockImpactDto request) {
+        log.info("Processing impact for article {}: {}", request.getArticleId(), request);
+        ImpactChange change = stockImpactService.processImpact(request);
+        ArticleStockImpactEntity impact = change.impact();
+
+        if (!change.escalated()) {
+            log.info("Impact of stock {} on article {} is not new or higher than before ({}), not notifying",
+                    request.getStockId(), request.getArticleId(), change.previousImpact());
+            return impact;
+        }
+
+        List<UserEntity> affectedUsers = userService.findAllByStocksId(request.getStockId());
+
+        log.info("Found {} affected users for stock ID {}", affectedUsers.size(), request.getStockId());
+        String payload = webPushNotificationService.prepareMessage(impact);
+
+        log.info("Prepared notification payload: {}", payload);
+
+        log.info("Sending notification to {} users", affectedUsers.size());
+        webPushNotificationService.notifyAll(affectedUsers, payload, NotificationSeverity.fromValue(impact.getImpact()));
+        return impact;
+    }
+
+    /**
+     * Stores a batch of impacts, then looks up the followers of every affected stock and
+     * their subscriptions in one pass and sends one notification per new or escalated impact.
+     */
+    public ArticleStockImpactBatchResult handleAll(List<ArticleStockImpactDto> requests) {
+        log.info("Processing batch of {} impacts", requests.size());
+        List<ImpactChange> changes = stockImpactService.processImpacts(requests);
+        int sent = impactNotifier.notifyFollowers(escalated(changes));
+
+        log.info("Stored {} of {} impacts, sent {} notifications", changes.size(), requests.size(), sent);
+        return new ArticleStockImpactBatchResult(changes.size(), changed(changes), sent, null, rejected(requests, changes));
+    }
+
+    /**
+     * Stores the impact and queues its notifications.
+     */
+    @Transactional
+    public ArticleStockImpactBatchResult accept(ArticleStockImpactDto request) {
+        log.info("Accepting impact for article {}: {}", request.getArticleId(), request);
+        List<ImpactChange> changes = List.of(stockImpactService.processImpact(request));
+        String jobId = impactNotificationQueue.enqueue(escalated(changes));
+        return new ArticleStockImpactBatchResult(1, changed(changes), null, jobId, List.of());
+    }
+
+    /**
+     * Stores a batch of impacts and queues their notifications as one job.
+     */
+    @Transactional
+    public ArticleStockImpactBatchResult acceptAll(List<ArticleStockImpactDto> requests) {
+        log.info("Accepting batch of {} impacts", requests.size());
+        List<ImpactChange> changes = stockImpactService.processImpacts(requests);
+        String jobId = impactNotificationQueue.enqueue(escalated(changes));
+        return new ArticleStockImpactBatchResult(changes.size(), changed(changes), null, jobId, rejected(requests, changes));
+    }
+
+    public Optional<ImpactNotificationJobDto> findJob(String jobId) {
+        return impactNotificationQueue.find(jobId).map(ImpactNotificationJobMapper::map);
+    }
+
+    private static List<ArticleStockImpactEntity> escalated(List<ImpactChange> changes) {
+        return changes.stream()
+                .filter(ImpactChange::escalated)
+                .map(ImpactChange::impact)
+                .toList();
+    }
+
+    private static int changed(List<ImpactChange> changes) {
+        return (int) changes.stream().filter(ImpactChange::changed).count();
+    }
+
+    private static List<ArticleStockImpactBatchResult.Rejection> rejected(List<ArticleStockImpactDto> requests,
+                                                                          List<ImpactChange> stored) {
+        Set<String> storedPairs = new HashSet<>();
+        stored.forEach(change -> storedPairs.add(change.impact().getArticle().getId() + "/" + change.impact().getStock().getId()));
+        return requests.stream()
+                .filter(request -> !storedPairs.contains(request.getArticleId() + "/" + request.getStockId()))
+                .map(request -> new ArticleStockImpactBatchResult.Rejection(
+                        request.getArticleId(), request.getStockId(), "Article or stock not found"))
+                .toList();
+    }
+}
@@ -3,8 +3,21 @@ package com.example.backend.domain.service.impact;
 import com.example.backend.domain.dto.ArticleStockImpactDto;
 import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
 
+import java.util.List;
+
 public interface ArticleStockImpactService {
-    ArticleStockImpactEntity processImpact(ArticleStockImpactDto request);
+    /**
+     * Stores the impact of a stock on an article, replacing the one reported before.
+     */
+    ImpactChange processImpact(ArticleStockImpactDto request);
+
+    /**
+     * Stores a batch of impacts. Impacts of unknown articles or stocks are skipped and a
+     * repeated article/stock pair keeps its last impact.
+     *
+     * @return stored impacts
+     */
+    List<ImpactChange> processImpacts(List<ArticleStockImpactDto> requests);
 
     ArticleStockImpactEntity getAnyImpact();
 }
@@ -2,48 +2,125 @@ package com.example.backend.domain.service.impact;
 
 import com.example.backend.domain.dto.ArticleStockImpactDto;
 import com.example.backend.domain.dto.mapper.ArticleStockImpactMapper;
+import com.example.backend.domain.service.stock.catalog.StockCatalog;
 import com.example.backend.infrastructure.database.entity.ArticleEntity;
 import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
 import com.example.backend.infrastructure.database.entity.StockEntity;
+import com.example.backend.infrastructure.database.projection.ImpactUpsertResult;
 import com.example.backend.infrastructure.database.repository.ArticleJpaRepository;
+import com.example.backend.infrastructure.database.repository.ArticleStockImpactBulkRepository;
 import com.example.backend.infrastructure.database.repository.ArticleStockImpactJpaRepository;
-import com.example.backend.infrastructure.database.repository.StockJpaRepository;
+import com.example.backend.infrastructure.database.repository.UserArticleFeedRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleStockImpactServiceImpl implements ArticleStockImpactService {
     private final ArticleStockImpactJpaRepository articleStockImpactJpaRepository;
     private final ArticleJpaRepository articleRepository;
-    private final StockJpaRepository stockRepository;
+    private final StockCatalog stockCatalog;
+    private final ArticleStockImpactBulkRepository articleStockImpactBulkRepository;
+    private final UserArticleFeedRepository userArticleFeedRepository;
 
     @Override
     @Transactional
-    public ArticleStockImpactEntity processImpact(ArticleStockImpactDto dto) {
+    public ImpactChange processImpact(ArticleStockImpactDto dto) {
         ArticleEntity article = articleRepository.findById(dto.getArticleId()).orElseThrow(
                 () -> new EntityNotFoundException("Article not found with id: " + dto.getArticleId())
         );
 
-        StockEntity stock = stockRepository.findById(dto.getStockId()).orElseThrow(
+        StockEntity stock = stockCatalog.findById(dto.getStockId()).orElseThrow(
                 () -> new EntityNotFoundException("Stock not found with id: " + dto.getStockId())
         );
 
-        ArticleStockImpactEntity impactEntity = new ArticleStockImpactEntity();
-        impactEntity.setArticle(article);
-        impactEntity.setStock(stock);
-        impactEntity.setImpact(dto.getImpact());
-        impactEntity.setReason(dto.getReason());
+        return upsert(List.of(toEntity(dto, article, stock))).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<ImpactChange> processImpacts(List<ArticleStockImpactDto> dtos) {
+        Map<List<String>, ArticleStockImpactDto> byPair = new LinkedHashMap<>();
+        dtos.forEach(dto -> byPair.put(List.of(dto.getArticleId(), dto.getStockId()), dto));
+
+        Map<String, ArticleEntity> articles = articleRepository
+                .findAllById(byPair.values().stream().map(ArticleStockImpactDto::getArticleId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(ArticleEntity::getId, Function.identity()));
+        Map<String, StockEntity> stocks = stockCatalog
+                .findAllById(byPair.values().stream().map(ArticleStockImpactDto::getStockId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(StockEntity::getId, Function.identity()));
+
+        List<ArticleStockImpactEntity> impacts = new ArrayList<>(byPair.size());
+        for (ArticleStockImpactDto dto : byPair.values()) {
+            ArticleEntity article = articles.get(dto.getArticleId());
+            StockEntity stock = stocks.get(dto.getStockId());
+            if (article == null || stock == null) {
+                log.warn("Skipping impact of stock {} on article {}: {} not found", dto.getStockId(), dto.getArticleId(),
+                        article == null ? "article" : "stock");
+                continue;
+            }
+            impacts.add(toEntity(dto, article, stock));
+        }
+        return impacts.isEmpty() ? List.of() : upsert(impacts);
+    }
+
+    /**
+     * Upserts impacts with distinct article/stock pairs, copies the changed ones to
+     * near-duplicate articles and adds articles with new impacts to the followers' feeds.
+     */
+    private List<ImpactChange> upsert(List<ArticleStockImpactEntity> impacts) {
+        Map<List<String>, ImpactUpsertResult> results = articleStockImpactBulkRepository.upsertAll(impacts).stream()
+                .collect(Collectors.toMap(result -> List.of(result.articleId(), result.stockId()), Function.identity()));
+
+        List<ImpactChange> changes = new ArrayList<>(impacts.size());
+        for (ArticleStockImpactEntity impact : impacts) {
+            ImpactUpsertResult result = results.get(List.of(impact.getArticle().getId(), impact.getStock().getId()));
+            impact.setId(result.id());
+            changes.add(new ImpactChange(impact, result.previousImpact(), result.changed()));
+        }
 
-        return articleStockImpactJpaRepository.save(impactEntity);
+        List<String> changedIds = changes.stream()
+                .filter(ImpactChange::changed)
+                .map(change -> change.impact().getId())
+                .toList();
+        if (!changedIds.isEmpty()) {
+            articleStockImpactJpaRepository.copyImpactsToDuplicates(changedIds);
+        }
+        userArticleFeedRepository.addArticles(changes.stream()
+                .filter(change -> change.changed() && change.previousImpact() == null)
+                .map(change -> change.impact().getArticle().getId())
+                .distinct()
+                .toList());
+        log.info("Upserted {} impacts, {} changed", impacts.size(), changedIds.size());
+        return changes;
     }
+
+    private static ArticleStockImpactEntity toEntity(ArticleStockImpactDto dto, ArticleEntity article, StockEntity stock) {
+        return ArticleStockImpactEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .article(article)
+                .stock(stock)
+                .impact(dto.getImpact())
+                .reason(dto.getReason())
+                .build();
+    }
+
     @Override
     public ArticleStockImpactEntity getAnyImpact() {
-        return articleStockImpactJpaRepository.findAll()
-                .stream()
-                .findFirst()
-                .orElse(null);
+        return articleStockImpactJpaRepository.findFirstBy().orElse(null);
     }
 }
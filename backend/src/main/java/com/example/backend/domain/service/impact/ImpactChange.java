@@ -0,0 +1,20 @@
+package com.example.backend.domain.service.impact;
+
+import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
+import com.example.backend.infrastructure.database.entity.enums.NotificationSeverity;
+
+/**
+ * Stored impact together with the impact it replaced ({@code null} for a new pair) and
+ * whether the stored row changed at all.
+ */
+public record ImpactChange(ArticleStockImpactEntity impact, String previousImpact, boolean changed) {
+
+    /**
+     * @return whether followers should hear about it: the impact is new or more severe than before
+     */
+    public boolean escalated() {
+        int previousLevel = previousImpact == null ? NotificationSeverity.NONE.getLevel()
+                : NotificationSeverity.fromValue(previousImpact).getLevel();
+        return changed && NotificationSeverity.fromValue(impact.getImpact()).getLevel() > previousLevel;
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.backend.domain.service.impact;
+
+import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
+import com.example.backend.infrastructure.database.entity.ImpactNotificationJobEntity;
+import com.example.backend.infrastructure.database.entity.enums.ImpactNotificationJobStatus;
+import com.example.backend.infrastructure.database.repository.ArticleStockImpactJpaRepository;
+import com.example.backend.infrastructure.database.repository.ImpactNotificationJobJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the push fan-out of asynchronously accepted impacts on a bounded worker pool, so the
+ * AI callback only pays for storing the impacts and a job row.
+ * <p>
+ * Jobs live in {@code impact_notification_jobs} and are submitted once the callback
+ * transaction commits. When the queue is full the job is rejected (counted in
+ * {@code impact.notifications.rejected}) and stays {@code QUEUED} until
+ * {@link #resubmitStale()} finds room for it; the same sweep picks up jobs lost on restart.
+ * A job that fails is retried with exponential backoff and ends up {@code FAILED} after
+ * {@code max-attempts} attempts. Impacts whose pushes were sent are recorded on the job, so a
+ * retried or requeued job only notifies about the rest.
+ * Pool and queue metrics are published as {@code executor.*} with
+ * {@code name=impact.notifications}, run time as {@code impact.notifications.duration}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImpactNotificationQueue {
+    private static final String METRIC_NAME = "impact.notifications";
+
+    private final ImpactNotificationJobJpaRepository jobRepository;
+    private final ArticleStockImpactJpaRepository articleStockImpactJpaRepository;
+    private final ImpactNotifier impactNotifier;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${article.impact.notifications.pool-size:4}")
+    private int poolSize;
+
+    @Value("${article.impact.notifications.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${article.impact.notifications.resubmit-after:30s}")
+    private Duration resubmitAfter;
+
+    @Value("${article.impact.notifications.lease:10m}")
+    private Duration lease;
+
+    @Value("${article.impact.notifications.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${article.impact.notifications.retry-backoff:30s}")
+    private Duration retryBackoff;
+
+    @Value("${article.impact.notifications.max-retry-backoff:30m}")
+    private Duration maxRetryBackoff;
+
+    @Value("${article.impact.notifications.retention:7d}")
+    private Duration retention;
+
+    private final Set<String> submitted = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+    private Counter rejected;
+    private Timer duration;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("impact-notify-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        new ExecutorServiceMetrics(executor, METRIC_NAME, Tags.empty()).bindTo(meterRegistry);
+        rejected = Counter.builder(METRIC_NAME + ".rejected").register(meterRegistry);
+        duration = Timer.builder(METRIC_NAME + ".duration").register(meterRegistry);
+    }
+
+    /**
+     * Records a job for impacts stored in the current transaction and submits it after commit.
+     * A job without impacts is recorded as completed right away.
+     *
+     * @return tracking id of the job
+     */
+    public String enqueue(List<ArticleStockImpactEntity> impacts) {
+        Date now = new Date();
+        if (impacts.isEmpty()) {
+            return jobRepository.save(ImpactNotificationJobEntity.builder()
+                    .id(UUID.randomUUID().toString())
+                    .status(ImpactNotificationJobStatus.COMPLETED)
+                    .impactIds(List.of())
+                    .notifiedImpactIds(List.of())
+                    .notified(0)
+                    .createdAt(now)
+                    .completedAt(now)
+                    .build()).getId();
+        }
+
+        ImpactNotificationJobEntity job = jobRepository.save(ImpactNotificationJobEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .status(ImpactNotificationJobStatus.QUEUED)
+                .impactIds(impacts.stream().map(ArticleStockImpactEntity::getId).toList())
+                .notifiedImpactIds(List.of())
+                .notified(0)
+                .createdAt(now)
+                .build());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(job.getId());
+        } else {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(job.getId());
+                }
+            });
+        }
+        return job.getId();
+    }
+
+    public Optional<ImpactNotificationJobEntity> find(String jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    /**
+     * Requeues jobs whose worker stopped reporting within {@code lease} (or fails them on
+     * their last attempt) and submits due queued jobs older than {@code resubmit-after}, as
+     * far as the queue has room.
+     */
+    public void resubmitStale() {
+        Instant now = Instant.now();
+        Date startedBefore = Date.from(now.minus(lease));
+        int requeued = jobRepository.requeueStale(ImpactNotificationJobStatus.QUEUED, ImpactNotificationJobStatus.RUNNING,
+                startedBefore, maxAttempts);
+        if (requeued > 0) {
+            log.warn("Requeued {} impact notification jobs that did not finish within {}", requeued, lease);
+        }
+        int failed = jobRepository.failStale(ImpactNotificationJobStatus.FAILED, ImpactNotificationJobStatus.RUNNING,
+                startedBefore, maxAttempts, "Did not finish within " + lease, Date.from(now));
+        if (failed > 0) {
+            log.error("{} impact notification jobs did not finish within {} on their last attempt", failed, lease);
+        }
+
+        int room = executor.getQueue().remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        jobRepository.findDueIds(ImpactNotificationJobStatus.QUEUED,
+                        Date.from(now.minus(resubmitAfter)), Date.from(now), PageRequest.of(0, room))
+                .forEach(this::submit);
+    }
+
+    public int purge() {
+        return jobRepository.deleteCompletedBefore(Date.from(Instant.now().minus(retention)));
+    }
+
+    private void submit(String jobId) {
+        if (!submitted.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    submitted.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            submitted.remove(jobId);
+            rejected.increment();
+            log.warn("Impact notification queue is full, job {} waits for the next sweep", jobId);
+        }
+    }
+
+    private void run(String jobId) {
+        if (jobRepository.start(jobId, ImpactNotificationJobStatus.QUEUED, ImpactNotificationJobStatus.RUNNING, new Date()) == 0) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int attempts = 1;
+        try {
+            Optional<ImpactNotificationJobEntity> job = jobRepository.findById(jobId);
+            attempts = job.map(ImpactNotificationJobEntity::getAttempts).orElse(attempts);
+            Set<String> notifiedIds = new HashSet<>(job.map(ImpactNotificationJobEntity::getNotifiedImpactIds).orElse(List.of()));
+            List<String> impactIds = job.map(ImpactNotificationJobEntity::getImpactIds).orElse(List.of()).stream()
+                    .filter(impactId -> !notifiedIds.contains(impactId))
+                    .toList();
+            int sent = impactNotifier.notifyFollowers(articleStockImpactJpaRepository.findAllWithArticleAndStockByIdIn(impactIds),
+                    (impact, impactSent) -> jobRepository.markNotified(jobId, impact.getId(), impactSent));
+            jobRepository.finish(jobId, ImpactNotificationJobStatus.COMPLETED, null, new Date());
+            log.info("Impact notification job {} sent {} notifications", jobId, sent);
+        } catch (Exception e) {
+            retryOrFail(jobId, attempts, e);
+        } finally {
+            sample.stop(duration);
+        }
+    }
+
+    private void retryOrFail(String jobId, int attempts, Exception e) {
+        if (attempts >= maxAttempts) {
+            log.error("Impact notification job {} failed {} times, giving up", jobId, attempts, e);
+            jobRepository.finish(jobId, ImpactNotificationJobStatus.FAILED, e.getMessage(), new Date());
+            return;
+        }
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxRetryBackoff) > 0) {
+            backoff = maxRetryBackoff;
+        }
+        log.warn("Impact notification job {} failed, attempt {} of {} in {}: {}", jobId, attempts + 1, maxAttempts, backoff, e.getMessage());
+        jobRepository.retry(jobId, ImpactNotificationJobStatus.QUEUED, e.getMessage(), Date.from(Instant.now().plus(backoff)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.backend.domain.service.impact;
+
+import com.example.backend.domain.service.user.UserService;
+import com.example.backend.domain.service.webpush.dto.PushRequest;
+import com.example.backend.domain.service.webpush.notification.WebPushNotificationService;
+import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
+import com.example.backend.infrastructure.database.entity.UserEntity;
+import com.example.backend.infrastructure.database.entity.enums.NotificationSeverity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Pushes stored impacts to the users following their stocks. Followers of every stock and
+ * their subscriptions are loaded once for the whole list.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImpactNotifier {
+    private final UserService userService;
+    private final WebPushNotificationService webPushNotificationService;
+
+    /**
+     * @return number of pushes sent; impacts of level {@code none} are not pushed
+     */
+    public int notifyFollowers(List<ArticleStockImpactEntity> impacts) {
+        return notifyFollowers(impacts, (impact, sent) -> {
+        });
+    }
+
+    /**
+     * Like {@link #notifyFollowers(List)}, calling {@code onNotified} with every impact and
+     * the number of its pushes once they were sent.
+     */
+    public int notifyFollowers(List<ArticleStockImpactEntity> impacts, ObjIntConsumer<ArticleStockImpactEntity> onNotified) {
+        List<ArticleStockImpactEntity> notable = impacts.stream()
+                .filter(impact -> !impact.getImpact().equals(NotificationSeverity.NONE.getValue()))
+                .toList();
+        if (notable.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<UserEntity>> followers = userService.findAllByStocksIds(
+                notable.stream().map(impact -> impact.getStock().getId()).distinct().toList());
+
+        List<PushRequest> pushes = new ArrayList<>();
+        Map<PushRequest, ArticleStockImpactEntity> impactsByPush = new IdentityHashMap<>();
+        for (ArticleStockImpactEntity impact : notable) {
+            List<UserEntity> users = followers.getOrDefault(impact.getStock().getId(), List.of());
+            if (!users.isEmpty()) {
+                PushRequest push = new PushRequest(users, webPushNotificationService.prepareMessage(impact),
+                        NotificationSeverity.fromValue(impact.getImpact()));
+                pushes.add(push);
+                impactsByPush.put(push, impact);
+            }
+        }
+        return webPushNotificationService.notifyAll(pushes,
+                (push, sent) -> onNotified.accept(impactsByPush.get(push), sent));
+    }
+}
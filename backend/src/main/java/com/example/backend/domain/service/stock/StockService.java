@@ -2,6 +2,7 @@ package com.example.backend.domain.service.stock;
 
 import com.example.backend.api.params.StocksSearchParams;
 import com.example.backend.domain.dto.StockDto;
+import com.example.backend.domain.dto.StockFacetsDto;
 import com.example.backend.infrastructure.exceptions.StockAlreadyAssociatedException;
 
 import java.util.List;
@@ -9,6 +10,8 @@ import java.util.List;
 public interface StockService {
     List<StockDto> findAllBySearchParams(StocksSearchParams params);
 
+    StockFacetsDto findFacetsBySearchParams(StocksSearchParams params);
+
     List<StockDto> getAllStocks();
 
     StockDto deleteStockForUser(String email, String symbol);
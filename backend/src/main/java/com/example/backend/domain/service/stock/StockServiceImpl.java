@@ -2,19 +2,18 @@ package com.example.backend.domain.service.stock;
 
 import com.example.backend.api.params.StocksSearchParams;
 import com.example.backend.domain.dto.StockDto;
+import com.example.backend.domain.dto.StockFacetsDto;
 import com.example.backend.domain.dto.mapper.StockMapper;
+import com.example.backend.domain.service.stock.catalog.StockCatalog;
+import com.example.backend.domain.service.stock.search.StockSearchEngine;
 import com.example.backend.infrastructure.database.entity.StockEntity;
 import com.example.backend.infrastructure.database.entity.UserEntity;
-import com.example.backend.infrastructure.database.repository.StockJpaRepository;
+import com.example.backend.infrastructure.database.repository.UserArticleFeedRepository;
 import com.example.backend.infrastructure.database.repository.UserJpaRepository;
 import com.example.backend.infrastructure.exceptions.StockAlreadyAssociatedException;
 import com.example.backend.infrastructure.exceptions.StockNotFoundException;
-import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,12 +25,14 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class StockServiceImpl implements StockService {
-    private final StockJpaRepository stockJpaRepository;
+    private final StockCatalog stockCatalog;
+    private final StockSearchEngine stockSearchEngine;
     private final UserJpaRepository userJpaRepository;
+    private final UserArticleFeedRepository userArticleFeedRepository;
 
     @Override
     public List<StockDto> getAllStocks() {
-        return stockJpaRepository.findAll().stream().map(StockMapper::map).toList();
+        return stockCatalog.findAll().stream().map(StockMapper::map).toList();
     }
 
     @Override
@@ -54,7 +55,7 @@ public class StockServiceImpl implements StockService {
         UserEntity user = userJpaRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        StockEntity stockToAdd = stockJpaRepository.findBySymbol(symbol)
+        StockEntity stockToAdd = stockCatalog.findBySymbol(symbol)
                 .orElseThrow(() -> new StockNotFoundException("Stock not found with symbol: " + symbol));
 
         boolean alreadyAssociated = user.getStocks().stream()
@@ -65,8 +66,9 @@ public class StockServiceImpl implements StockService {
         }
 
         user.getStocks().add(stockToAdd);
+        int feedArticles = userArticleFeedRepository.addStock(user.getId(), stockToAdd.getId());
 
-        log.info("Associated stock {} with user {}", stockToAdd.getId(), user.getId());
+        log.info("Associated stock {} with user {}, {} articles added to the feed", stockToAdd.getId(), user.getId(), feedArticles);
 
         return StockMapper.map(stockToAdd);
     }
@@ -78,58 +80,24 @@ public class StockServiceImpl implements StockService {
         UserEntity user = userJpaRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        StockEntity stockToRemove = stockJpaRepository.findBySymbol(symbol)
+        StockEntity stockToRemove = stockCatalog.findBySymbol(symbol)
                 .orElseThrow(() -> new StockNotFoundException("Stock not found with symbol: " + symbol));
 
-        user.getStocks().remove(stockToRemove);
+        user.getStocks().removeIf(stock -> stock.getId().equals(stockToRemove.getId()));
+        userArticleFeedRepository.removeStock(user.getId(), stockToRemove.getId());
 
         return StockMapper.map(stockToRemove);
     }
 
     @Override
     public List<StockDto> findAllBySearchParams(StocksSearchParams params) {
-        Pageable pageable = PageRequest.of(params.page(), params.size());
-        return stockJpaRepository.findAll(createStockSpecification(params), pageable)
-                .stream()
+        return stockSearchEngine.search(params).stream()
                 .map(StockMapper::map)
                 .toList();
     }
 
-    private Specification<StockEntity> createStockSpecification(StocksSearchParams params) {
-        return (root, query, criteriaBuilder) -> {
-            Predicate predicate = criteriaBuilder.conjunction();
-
-            if (params.symbol() != null) {
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get("symbol"), params.symbol()));
-            }
-
-            if (params.stockName() != null) {
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.like(root.get("name"), "%" + params.stockName() + "%"));
-            }
-
-            if (params.country() != null) {
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.like(root.get("country"), "%" + params.country() + "%"));
-            }
-
-            if (params.exchange() != null) {
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.like(root.get("exchange"), "%" + params.exchange() + "%"));
-            }
-
-            if (params.generalSearch() != null) {
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.or(
-                                criteriaBuilder.like(root.get("name"), "%" + params.generalSearch() + "%"),
-                                criteriaBuilder.like(root.get("symbol"), "%" + params.generalSearch() + "%"),
-                                criteriaBuilder.like(root.get("country"), "%" + params.generalSearch() + "%"),
-                                criteriaBuilder.like(root.get("exchange"), "%" + params.generalSearch() + "%")
-                        )
-                );
-            }
-
-            return predicate;
-        };
+    @Override
+    public StockFacetsDto findFacetsBySearchParams(StocksSearchParams params) {
+        return stockSearchEngine.facets(params);
     }
-
-
-
 }
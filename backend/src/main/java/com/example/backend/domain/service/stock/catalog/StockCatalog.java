@@ -0,0 +1,139 @@
+package com.example.backend.domain.service.stock.catalog;
+
+import com.example.backend.infrastructure.database.entity.StockEntity;
+import com.example.backend.infrastructure.database.repository.StockJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * In-memory copy of {@code STOCKS}, the reference data behind watchlists, impact ingestion
+ * and stock search. Lookups by id and symbol are answered from an immutable snapshot that
+ * is replaced as a whole when the table changes, checked with a fingerprint of all rows
+ * every {@code article.stock-catalog.refresh-interval-ms}; code changing stocks can call
+ * {@link #refresh()} to publish the change right away.
+ * <p>
+ * The returned entities are detached copies shared by all callers and must not be modified.
+ * They can still be used as references in JPA associations.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockCatalog {
+    private final StockJpaRepository stockJpaRepository;
+
+    private volatile Snapshot snapshot;
+    private volatile String fingerprint;
+
+    private record Snapshot(long version, StockEntity[] stocks, Map<String, StockEntity> byId, Map<String, StockEntity> bySymbol) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        snapshot();
+    }
+
+    @Scheduled(fixedDelayString = "${article.stock-catalog.refresh-interval-ms:60000}",
+            initialDelayString = "${article.stock-catalog.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        if (!Objects.equals(stockJpaRepository.stockRowsFingerprint(), fingerprint)) {
+            refresh();
+        }
+    }
+
+    /**
+     * Reloads the catalog and swaps it in atomically.
+     */
+    public synchronized void refresh() {
+        String newFingerprint = stockJpaRepository.stockRowsFingerprint();
+        StockEntity[] stocks = stockJpaRepository.findAll().stream()
+                .map(StockCatalog::copyOf)
+                .sorted(Comparator.comparing(StockEntity::getSymbol))
+                .toArray(StockEntity[]::new);
+
+        Map<String, StockEntity> byId = new HashMap<>(stocks.length * 2);
+        Map<String, StockEntity> bySymbol = new HashMap<>(stocks.length * 2);
+        for (StockEntity stock : stocks) {
+            byId.put(stock.getId(), stock);
+            bySymbol.put(stock.getSymbol(), stock);
+        }
+        long version = snapshot == null ? 1 : snapshot.version() + 1;
+        snapshot = new Snapshot(version, stocks, Map.copyOf(byId), Map.copyOf(bySymbol));
+        fingerprint = newFingerprint;
+        log.info("Stock catalog loaded with {} stocks", stocks.length);
+    }
+
+    /**
+     * @return a number that grows every time the catalog is reloaded, for caches derived from it
+     */
+    public long version() {
+        return snapshot().version();
+    }
+
+    public Optional<StockEntity> findById(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot().byId().get(id));
+    }
+
+    public Optional<StockEntity> findBySymbol(String symbol) {
+        return symbol == null ? Optional.empty() : Optional.ofNullable(snapshot().bySymbol().get(symbol));
+    }
+
+    /**
+     * @return the known stocks among the ids, unknown ids are skipped
+     */
+    public List<StockEntity> findAllById(Collection<String> ids) {
+        Map<String, StockEntity> byId = snapshot().byId();
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * @return all stocks ordered by symbol
+     */
+    public List<StockEntity> findAll() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot().stocks()));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static StockEntity copyOf(StockEntity stock) {
+        return StockEntity.builder()
+                .id(stock.getId())
+                .symbol(stock.getSymbol())
+                .name(stock.getName())
+                .description(stock.getDescription())
+                .ekd(stock.getEkd())
+                .address(stock.getAddress())
+                .country(stock.getCountry())
+                .exchange(stock.getExchange())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.backend.domain.service.stock.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton over normalized text ({@code a-z}, {@code 0-9} and {@code -} as the
+ * word separator). The failure links are folded into a full transition table, so matching
+ * costs one array lookup per character regardless of the number of patterns.
+ */
+class AhoCorasick {
+    private static final int ALPHABET = 37;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final int[][] transitions;
+    private final int[][] outputs;
+
+    @FunctionalInterface
+    interface MatchListener {
+        /**
+         * @param end index of the last matched character
+         */
+        void onMatch(int pattern, int end);
+    }
+
+    AhoCorasick(List<String> patterns) {
+        List<int[]> children = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        children.add(emptyRow());
+        ends.add(new ArrayList<>(1));
+
+        for (int pattern = 0; pattern < patterns.size(); pattern++) {
+            String value = patterns.get(pattern);
+            int node = 0;
+            for (int i = 0; i < value.length(); i++) {
+                int symbol = symbol(value.charAt(i));
+                if (symbol < 0) {
+                    throw new IllegalArgumentException("Pattern is not normalized: " + value);
+                }
+                if (children.get(node)[symbol] < 0) {
+                    children.get(node)[symbol] = children.size();
+                    children.add(emptyRow());
+                    ends.add(new ArrayList<>(1));
+                }
+                node = children.get(node)[symbol];
+            }
+            ends.get(node).add(pattern);
+        }
+
+        int size = children.size();
+        transitions = new int[size][];
+        outputs = new int[size][];
+        int[] failure = new int[size];
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        transitions[0] = new int[ALPHABET];
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            int child = children.get(0)[symbol];
+            transitions[0][symbol] = Math.max(child, 0);
+            if (child > 0) {
+                queue.add(child);
+            }
+        }
+        outputs[0] = NO_OUTPUT;
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int[] own = ends.get(node).stream().mapToInt(Integer::intValue).toArray();
+            int[] inherited = outputs[failure[node]];
+            outputs[node] = own.length == 0 ? inherited : concat(own, inherited);
+
+            transitions[node] = new int[ALPHABET];
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int child = children.get(node)[symbol];
+                if (child > 0) {
+                    failure[child] = transitions[failure[node]][symbol];
+                    transitions[node][symbol] = child;
+                    queue.add(child);
+                } else {
+                    transitions[node][symbol] = transitions[failure[node]][symbol];
+                }
+            }
+        }
+    }
+
+    int size() {
+        return transitions.length;
+    }
+
+    void search(String text, MatchListener listener) {
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = symbol(text.charAt(i));
+            if (symbol < 0) {
+                node = 0;
+                continue;
+            }
+            node = transitions[node][symbol];
+            for (int pattern : outputs[node]) {
+                listener.onMatch(pattern, i);
+            }
+        }
+    }
+
+    private static int symbol(char c) {
+        if (c == '-') {
+            return 0;
+        }
+        if (c >= '0' && c <= '9') {
+            return 1 + c - '0';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return 11 + c - 'a';
+        }
+        return -1;
+    }
+
+    private static int[] emptyRow() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.backend.domain.service.stock.matcher;
+
+import com.example.backend.domain.service.article.slug.SlugGenerator;
+import com.example.backend.infrastructure.database.entity.StockEntity;
+import com.example.backend.infrastructure.database.projection.StockAliasView;
+import com.example.backend.infrastructure.database.repository.StockJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Finds stocks mentioned in an article, so the AI module only asks the LLM about those.
+ * <p>
+ * Symbols, company names (without legal suffixes such as "SA") and the aliases from
+ * {@code stock_aliases} are compiled into a single {@link AhoCorasick} automaton over
+ * slug-normalized text. Symbols and short upper-case aliases only match upper-case words
+ * ("PKO", not "pko"); names and other aliases also match with a Polish inflection ending
+ * on their last word ("Orlenu", "Ambry"). Single-word names must be capitalized, since many
+ * of them are common words ("Efekt", "Best", "mój"). The automaton is rebuilt whenever the stocks or
+ * aliases change, checked with a cheap fingerprint query every
+ * {@code article.stock-matcher.refresh-interval-ms}. Until the first build finishes
+ * nothing matches, see {@link #isLoaded()}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockMentionMatcher {
+    private static final Set<String> LEGAL_SUFFIXES = Set.of("sa", "se", "asa", "nv", "ag", "plc", "ltd", "inc", "spa", "s", "a");
+    private static final Set<String> INFLECTIONS = Set.of(
+            "a", "u", "y", "i", "e", "em", "om", "ow", "owi", "owie", "ie", "ach", "ami", "ego", "emu", "ym", "ej"
+    );
+    private static final int MIN_NAME_LENGTH = 3;
+    private static final int MAX_SHORT_ALIAS_LENGTH = 4;
+    private static final int MIN_STEMMED_LENGTH = 5;
+
+    private final StockJpaRepository stockJpaRepository;
+
+    /**
+     * Shorter symbols are not matched. Symbols only match whole upper-case words, so two
+     * letters ("CD") are still safe.
+     */
+    @Value("${article.stock-matcher.min-symbol-length:2}")
+    private int minSymbolLength;
+
+    private volatile Snapshot snapshot;
+    private volatile String fingerprint;
+
+    private enum Kind {
+        /** Exact word, upper case in the original text. */
+        UPPER_CASE,
+        /** Last word may carry an inflection ending. */
+        INFLECTED,
+        /** Last word lost its final vowel and must carry an inflection ending. */
+        STEMMED
+    }
+
+    /**
+     * @param capitalized whether the matched word must start with a capital letter or a digit
+     */
+    private record Pattern(String stockId, Kind kind, boolean capitalized) {
+    }
+
+    private record Snapshot(AhoCorasick automaton, List<Pattern> patterns) {
+    }
+
+    /**
+     * Normalized text: words joined by {@code -} with a leading and trailing separator, the
+     * index of the word every character belongs to, the end of every word and whether the
+     * word was written in upper case or capitalized.
+     */
+    private record Text(String value, int[] wordAt, int[] wordEnd, boolean[] upperCase, boolean[] capitalized) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild(stockJpaRepository.stocksFingerprint());
+    }
+
+    @Scheduled(fixedDelayString = "${article.stock-matcher.refresh-interval-ms:60000}",
+            initialDelayString = "${article.stock-matcher.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        String current = stockJpaRepository.stocksFingerprint();
+        if (!Objects.equals(current, fingerprint)) {
+            rebuild(current);
+        }
+    }
+
+    /**
+     * @return whether the stocks were loaded; before that {@link #match} finds nothing
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * @return ids of the stocks mentioned in any of the texts, in order of first mention
+     */
+    public Set<String> match(String... texts) {
+        Snapshot current = snapshot;
+        Set<String> stockIds = new LinkedHashSet<>();
+        if (current == null) {
+            return stockIds;
+        }
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            Text normalized = normalize(text);
+            current.automaton().search(normalized.value(), (pattern, end) -> {
+                Pattern matched = current.patterns().get(pattern);
+                if (accepts(normalized, matched, end)) {
+                    stockIds.add(matched.stockId());
+                }
+            });
+        }
+        return stockIds;
+    }
+
+    private synchronized void rebuild(String newFingerprint) {
+        List<String> values = new ArrayList<>();
+        List<Pattern> patterns = new ArrayList<>();
+        List<StockEntity> stocks = stockJpaRepository.findAll();
+
+        for (StockEntity stock : stocks) {
+            String symbol = SlugGenerator.createSlugFromTitle(stock.getSymbol());
+            if (symbol.length() >= minSymbolLength) {
+                add(values, patterns, symbol, new Pattern(stock.getId(), Kind.UPPER_CASE, false));
+            }
+            addName(values, patterns, stock.getId(), stripLegalSuffix(stock.getName()));
+        }
+        for (StockAliasView alias : stockJpaRepository.findAllAliases()) {
+            String value = alias.getAlias().strip();
+            if (value.length() <= MAX_SHORT_ALIAS_LENGTH && value.equals(value.toUpperCase())) {
+                add(values, patterns, SlugGenerator.createSlugFromTitle(value), new Pattern(alias.getStockId(), Kind.UPPER_CASE, false));
+            } else {
+                addName(values, patterns, alias.getStockId(), SlugGenerator.createSlugFromTitle(value));
+            }
+        }
+
+        AhoCorasick automaton = new AhoCorasick(values.stream().map(value -> "-" + value).toList());
+        snapshot = new Snapshot(automaton, List.copyOf(patterns));
+        fingerprint = newFingerprint;
+        log.info("Stock matcher built for {} stocks: {} patterns, {} states", stocks.size(), patterns.size(), automaton.size());
+    }
+
+    private static void addName(List<String> values, List<Pattern> patterns, String stockId, String name) {
+        if (name.length() < MIN_NAME_LENGTH) {
+            return;
+        }
+        int lastWord = name.lastIndexOf('-') + 1;
+        boolean singleWord = lastWord == 0;
+        add(values, patterns, name, new Pattern(stockId, Kind.INFLECTED, singleWord));
+
+        char last = name.charAt(name.length() - 1);
+        if (name.length() - lastWord >= MIN_STEMMED_LENGTH && (last == 'a' || last == 'o' || last == 'e')) {
+            add(values, patterns, name.substring(0, name.length() - 1), new Pattern(stockId, Kind.STEMMED, singleWord));
+        }
+    }
+
+    private static void add(List<String> values, List<Pattern> patterns, String value, Pattern pattern) {
+        if (!value.isEmpty()) {
+            values.add(value);
+            patterns.add(pattern);
+        }
+    }
+
+    private static boolean accepts(Text text, Pattern pattern, int end) {
+        int word = text.wordAt()[end];
+        if (word < 0 || (pattern.capitalized() && !text.capitalized()[word])) {
+            return false;
+        }
+        String ending = text.value().substring(end + 1, text.wordEnd()[word]);
+        return switch (pattern.kind()) {
+            case UPPER_CASE -> ending.isEmpty() && text.upperCase()[word];
+            case INFLECTED -> ending.isEmpty() || INFLECTIONS.contains(ending);
+            case STEMMED -> INFLECTIONS.contains(ending);
+        };
+    }
+
+    static String stripLegalSuffix(String name) {
+        List<String> words = new ArrayList<>(Arrays.asList(SlugGenerator.createSlugFromTitle(name).split("-")));
+        while (words.size() > 1 && LEGAL_SUFFIXES.contains(words.get(words.size() - 1))) {
+            words.remove(words.size() - 1);
+        }
+        return String.join("-", words);
+    }
+
+    private static Text normalize(String text) {
+        StringBuilder value = new StringBuilder(text.length() + 2).append('-');
+        List<Integer> wordEnds = new ArrayList<>();
+        List<Boolean> upperCase = new ArrayList<>();
+        List<Boolean> capitalized = new ArrayList<>();
+        int[] wordAt = new int[text.length() * 2 + 2];
+        Arrays.fill(wordAt, -1);
+
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            String original = text.substring(start, i);
+            String word = SlugGenerator.createSlugFromTitle(original);
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            int index = wordEnds.size();
+            if (value.length() + word.length() + 1 > wordAt.length) {
+                wordAt = Arrays.copyOf(wordAt, (value.length() + word.length() + 1) * 2);
+                Arrays.fill(wordAt, value.length(), wordAt.length, -1);
+            }
+            for (int k = 0; k < word.length(); k++) {
+                wordAt[value.length() + k] = index;
+            }
+            value.append(word);
+            wordEnds.add(value.length());
+            upperCase.add(isUpperCase(original));
+            capitalized.add(!Character.isLowerCase(original.charAt(0)));
+            value.append('-');
+        }
+
+        int[] ends = wordEnds.stream().mapToInt(Integer::intValue).toArray();
+        boolean[] upper = new boolean[upperCase.size()];
+        boolean[] capital = new boolean[capitalized.size()];
+        for (int k = 0; k < upper.length; k++) {
+            upper[k] = upperCase.get(k);
+            capital[k] = capitalized.get(k);
+        }
+        return new Text(value.toString(), wordAt, ends, upper, capital);
+    }
+
+    private static boolean isUpperCase(String word) {
+        boolean hasLetter = false;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isLowerCase(c)) {
+                return false;
+            }
+            hasLetter |= Character.isLetter(c);
+        }
+        return hasLetter;
+    }
+}
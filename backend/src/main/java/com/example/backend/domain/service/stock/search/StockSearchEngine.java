@@ -0,0 +1,65 @@
+package com.example.backend.domain.service.stock.search;
+
+import com.example.backend.api.params.StocksSearchParams;
+import com.example.backend.domain.dto.StockFacetsDto;
+import com.example.backend.domain.service.stock.catalog.StockCatalog;
+import com.example.backend.infrastructure.database.entity.StockEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Answers {@code /stocks} searches and facet counts from a {@link StockSearchIndex} over the
+ * {@link StockCatalog}. The index is rebuilt on the first search after the catalog reloads.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockSearchEngine {
+    private final StockCatalog stockCatalog;
+
+    private volatile IndexedVersion indexed;
+
+    private record IndexedVersion(long version, StockSearchIndex index) {
+    }
+
+    /**
+     * @return one page of matching stocks, best matches first when searching by text
+     */
+    public List<StockEntity> search(StocksSearchParams params) {
+        return index().search(toQuery(params)).stream()
+                .skip((long) params.page() * params.size())
+                .limit(params.size())
+                .toList();
+    }
+
+    public StockFacetsDto facets(StocksSearchParams params) {
+        StockSearchIndex.Facets facets = index().facets(toQuery(params));
+        return new StockFacetsDto(facets.total(), facets.countries(), facets.exchanges());
+    }
+
+    private StockSearchIndex index() {
+        long version = stockCatalog.version();
+        IndexedVersion current = indexed;
+        if (current == null || current.version() != version) {
+            synchronized (this) {
+                current = indexed;
+                if (current == null || current.version() != version) {
+                    long start = System.nanoTime();
+                    current = new IndexedVersion(version, new StockSearchIndex(stockCatalog.findAll()));
+                    indexed = current;
+                    log.info("Stock search index built for {} stocks in {} ms", current.index().size(),
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+        return current.index();
+    }
+
+    private static StockSearchIndex.Query toQuery(StocksSearchParams params) {
+        return new StockSearchIndex.Query(params.generalSearch(), params.stockName(), params.symbol(),
+                params.country(), params.exchange(), params.ids());
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.backend.domain.service.stock.search;
+
+import com.example.backend.domain.service.article.slug.SlugGenerator;
+import com.example.backend.infrastructure.database.entity.StockEntity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Immutable search index over a list of stocks; positions in the list are the bit indexes.
+ * <p>
+ * Every field is folded the way slugs are (lower case, no diacritics, words joined by
+ * {@code -}). Queries of three or more characters are narrowed with a trigram index and
+ * then verified as substrings; shorter queries use an index of word prefixes. Countries
+ * and exchanges are kept as bitsets, so facet counts are a few {@code and}s and
+ * cardinalities.
+ */
+final class StockSearchIndex {
+    private static final int GRAM = 3;
+
+    /**
+     * Criteria over the folded fields; {@code null} means no constraint.
+     */
+    record Query(String text, String name, String symbol, String country, String exchange, Collection<String> ids) {
+    }
+
+    record Facets(int total, Map<String, Integer> countries, Map<String, Integer> exchanges) {
+    }
+
+    private final List<StockEntity> stocks;
+    private final String[] symbols;
+    private final String[] names;
+    private final String[] countries;
+    private final String[] exchanges;
+    private final Map<String, Integer> positionById = new HashMap<>();
+    private final Map<String, BitSet> trigrams = new HashMap<>();
+    private final Map<String, BitSet> prefixes = new HashMap<>();
+    private final Map<String, BitSet> byCountry = new LinkedHashMap<>();
+    private final Map<String, BitSet> byExchange = new LinkedHashMap<>();
+
+    StockSearchIndex(List<StockEntity> stocks) {
+        this.stocks = List.copyOf(stocks);
+        int size = stocks.size();
+        symbols = new String[size];
+        names = new String[size];
+        countries = new String[size];
+        exchanges = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            StockEntity stock = stocks.get(i);
+            positionById.put(stock.getId(), i);
+            symbols[i] = fold(stock.getSymbol());
+            names[i] = fold(stock.getName());
+            countries[i] = fold(stock.getCountry());
+            exchanges[i] = fold(stock.getExchange());
+            for (String field : new String[]{symbols[i], names[i], countries[i], exchanges[i]}) {
+                indexField(field, i);
+            }
+            if (stock.getCountry() != null) {
+                byCountry.computeIfAbsent(stock.getCountry(), ignored -> new BitSet(size)).set(i);
+            }
+            if (stock.getExchange() != null) {
+                byExchange.computeIfAbsent(stock.getExchange(), ignored -> new BitSet(size)).set(i);
+            }
+        }
+    }
+
+    static String fold(String value) {
+        return SlugGenerator.createSlugFromTitle(value);
+    }
+
+    int size() {
+        return stocks.size();
+    }
+
+    /**
+     * @return matching stocks; with a text query ranked by exact symbol, then symbol or name
+     * prefix, then word prefix, then any substring, otherwise in index order
+     */
+    List<StockEntity> search(Query query) {
+        BitSet matches = filter(query, true, true);
+        List<Integer> positions = new ArrayList<>(matches.cardinality());
+        matches.stream().forEach(positions::add);
+
+        String text = fold(query.text());
+        if (!text.isEmpty()) {
+            positions.sort(Comparator.comparingInt((Integer position) -> rank(position, text)).thenComparingInt(position -> position));
+        }
+        return positions.stream().map(stocks::get).toList();
+    }
+
+    /**
+     * Counts matches per country and exchange. Each facet ignores its own filter, so the
+     * counts show what selecting another value would return.
+     */
+    Facets facets(Query query) {
+        BitSet base = filter(query, false, false);
+        BitSet countryFilter = valueFilter(byCountry, query.country());
+        BitSet exchangeFilter = valueFilter(byExchange, query.exchange());
+
+        BitSet all = (BitSet) base.clone();
+        and(all, countryFilter);
+        and(all, exchangeFilter);
+
+        BitSet forCountries = (BitSet) base.clone();
+        and(forCountries, exchangeFilter);
+        BitSet forExchanges = (BitSet) base.clone();
+        and(forExchanges, countryFilter);
+
+        return new Facets(all.cardinality(), counts(byCountry, forCountries), counts(byExchange, forExchanges));
+    }
+
+    private BitSet filter(Query query, boolean withCountry, boolean withExchange) {
+        BitSet result = new BitSet(size());
+        result.set(0, size());
+
+        if (query.ids() != null && !query.ids().isEmpty()) {
+            BitSet ids = new BitSet(size());
+            query.ids().stream().map(positionById::get).filter(position -> position != null).forEach(ids::set);
+            result.and(ids);
+        }
+        if (withCountry) {
+            and(result, valueFilter(byCountry, query.country()));
+        }
+        if (withExchange) {
+            and(result, valueFilter(byExchange, query.exchange()));
+        }
+
+        String symbol = fold(query.symbol());
+        if (query.symbol() != null) {
+            retain(result, position -> symbols[position].equals(symbol));
+        }
+        String name = fold(query.name());
+        if (!name.isEmpty()) {
+            result.and(candidates(name));
+            retain(result, position -> names[position].contains(name));
+        }
+        String text = fold(query.text());
+        if (!text.isEmpty()) {
+            result.and(candidates(text));
+            retain(result, position -> symbols[position].contains(text) || names[position].contains(text)
+                    || countries[position].contains(text) || exchanges[position].contains(text));
+        }
+        return result;
+    }
+
+    /**
+     * Superset of the stocks containing {@code text} in some field.
+     */
+    private BitSet candidates(String text) {
+        if (text.length() < GRAM) {
+            return copy(prefixes.get(text));
+        }
+        BitSet result = null;
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            BitSet gram = trigrams.get(text.substring(i, i + GRAM));
+            if (gram == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) gram.clone();
+            } else {
+                result.and(gram);
+            }
+        }
+        return result;
+    }
+
+    private int rank(int position, String text) {
+        if (symbols[position].equals(text)) {
+            return 0;
+        }
+        if (symbols[position].startsWith(text) || names[position].startsWith(text)) {
+            return 1;
+        }
+        if (names[position].contains("-" + text)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private void indexField(String field, int position) {
+        for (int i = 0; i + GRAM <= field.length(); i++) {
+            trigrams.computeIfAbsent(field.substring(i, i + GRAM), ignored -> new BitSet()).set(position);
+        }
+        int start = 0;
+        while (start < field.length()) {
+            int end = field.indexOf('-', start);
+            end = end < 0 ? field.length() : end;
+            for (int length = 1; length < GRAM && start + length <= end; length++) {
+                prefixes.computeIfAbsent(field.substring(start, start + length), ignored -> new BitSet()).set(position);
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Stocks whose value contains the folded filter, or {@code null} without a filter.
+     */
+    private static BitSet valueFilter(Map<String, BitSet> facet, String value) {
+        String folded = fold(value);
+        if (folded.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        facet.forEach((key, positions) -> {
+            if (fold(key).contains(folded)) {
+                result.or(positions);
+            }
+        });
+        return result;
+    }
+
+    private static Map<String, Integer> counts(Map<String, BitSet> facet, BitSet matches) {
+        Map<String, Integer> counts = new HashMap<>();
+        facet.forEach((key, positions) -> {
+            BitSet both = (BitSet) positions.clone();
+            both.and(matches);
+            if (!both.isEmpty()) {
+                counts.put(key, both.cardinality());
+            }
+        });
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static void and(BitSet target, BitSet filter) {
+        if (filter != null) {
+            target.and(filter);
+        }
+    }
+
+    private static void retain(BitSet bits, Predicate<Integer> predicate) {
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            if (!predicate.test(i)) {
+                bits.clear(i);
+            }
+        }
+    }
+
+    private static BitSet copy(BitSet bits) {
+        return bits == null ? new BitSet() : (BitSet) bits.clone();
+    }
+}
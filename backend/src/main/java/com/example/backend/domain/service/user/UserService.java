@@ -4,7 +4,9 @@ import com.example.backend.domain.dto.AuthRequest;
 import com.example.backend.domain.dto.UserDto;
 import com.example.backend.infrastructure.database.entity.UserEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserService {
@@ -16,6 +18,11 @@ public interface UserService {
 
     List<UserEntity> findAllByStocksId(String stockId);
 
+    /**
+     * @return users following each of the stocks, keyed by stock id
+     */
+    Map<String, List<UserEntity>> findAllByStocksIds(Collection<String> stockIds);
+
     UserEntity findUserByEmail(String email);
 }
 
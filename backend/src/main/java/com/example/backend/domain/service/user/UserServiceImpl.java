@@ -5,14 +5,18 @@ import com.example.backend.domain.dto.UserDto;
 import com.example.backend.domain.dto.mapper.UserMapper;
 import com.example.backend.infrastructure.config.security.jwt.JwtUtils;
 import com.example.backend.infrastructure.database.entity.UserEntity;
+import com.example.backend.infrastructure.database.projection.UserStockView;
 import com.example.backend.infrastructure.database.repository.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -62,4 +66,14 @@ public class UserServiceImpl implements UserService {
     public List<UserEntity> findAllByStocksId(String stockId) {
         return userJpaRepository.findAllByStocksId(stockId);
     }
+
+    @Override
+    public Map<String, List<UserEntity>> findAllByStocksIds(Collection<String> stockIds) {
+        if (stockIds.isEmpty()) {
+            return Map.of();
+        }
+        return userJpaRepository.findAllByStocksIdIn(stockIds).stream()
+                .collect(Collectors.groupingBy(UserStockView::stockId,
+                        Collectors.mapping(UserStockView::user, Collectors.toList())));
+    }
 }
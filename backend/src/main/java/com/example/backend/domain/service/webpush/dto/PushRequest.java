@@ -0,0 +1,12 @@
+package com.example.backend.domain.service.webpush.dto;
+
+import com.example.backend.infrastructure.database.entity.UserEntity;
+import com.example.backend.infrastructure.database.entity.enums.NotificationSeverity;
+
+import java.util.List;
+
+/**
+ * One notification payload addressed to a group of users.
+ */
+public record PushRequest(List<UserEntity> users, String payloadJson, NotificationSeverity severity) {
+}
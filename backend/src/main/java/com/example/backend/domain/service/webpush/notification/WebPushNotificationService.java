@@ -1,11 +1,14 @@
 package com.example.backend.domain.service.webpush.notification;
 
+import com.example.backend.domain.service.article.description.DescriptionExtractor;
 import com.example.backend.domain.service.webpush.dto.Message;
+import com.example.backend.domain.service.webpush.dto.PushRequest;
 import com.example.backend.domain.service.webpush.subscription.WebPushSubscriptionService;
 import com.example.backend.infrastructure.database.entity.ArticleEntity;
 import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
 import com.example.backend.infrastructure.database.entity.StockEntity;
 import com.example.backend.infrastructure.database.entity.UserEntity;
+import com.example.backend.infrastructure.database.entity.WebPushSubscriptionEntity;
 import com.example.backend.infrastructure.database.entity.enums.NotificationSeverity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +20,13 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +41,54 @@ public class WebPushNotificationService {
                 .forEach(subscription -> notify(subscription, payloadJson));
     }
 
+    /**
+     * Sends several notifications, loading the subscriptions of all their recipients with a
+     * single query instead of one per notification.
+     *
+     * @return number of pushes sent
+     */
+    public int notifyAll(List<PushRequest> requests) {
+        return notifyAll(requests, (request, sent) -> {
+        });
+    }
+
+    /**
+     * Like {@link #notifyAll(List)}, calling {@code onSent} with every request and the number
+     * of its pushes once they were sent.
+     */
+    public int notifyAll(List<PushRequest> requests, ObjIntConsumer<PushRequest> onSent) {
+        if (requests.isEmpty()) {
+            return 0;
+        }
+        Map<String, UserEntity> users = new LinkedHashMap<>();
+        requests.forEach(request -> request.users().forEach(user -> users.putIfAbsent(user.getId(), user)));
+        NotificationSeverity highest = requests.stream()
+                .map(PushRequest::severity)
+                .max(Comparator.comparingInt(NotificationSeverity::getLevel))
+                .orElseThrow();
+
+        Map<String, List<WebPushSubscriptionEntity>> subscriptionsByUser = webPushSubscriptionService
+                .findActiveSubscriptions(List.copyOf(users.values()), highest)
+                .stream()
+                .collect(Collectors.groupingBy(subscription -> subscription.getUserEntity().getId()));
+
+        int sent = 0;
+        for (PushRequest request : requests) {
+            int requestSent = 0;
+            for (UserEntity user : request.users()) {
+                for (WebPushSubscriptionEntity subscription : subscriptionsByUser.getOrDefault(user.getId(), List.of())) {
+                    if (subscription.getSeverityLevel().getLevel() <= request.severity().getLevel()) {
+                        notify(subscription.toWebPushSubscription(), request.payloadJson());
+                        requestSent++;
+                    }
+                }
+            }
+            onSent.accept(request, requestSent);
+            sent += requestSent;
+        }
+        return sent;
+    }
+
     public void notify(Subscription subscription, String payloadJson) {
         try {
             pushService.send(new Notification(subscription, payloadJson));
@@ -51,7 +107,7 @@ public class WebPushNotificationService {
         return Message.builder()
                 .slug(article.getSlug())
                 .stock(stock.getSymbol())
-                .description(article.getDescription())
+                .description(DescriptionExtractor.summarize(article.getDescription(), DescriptionExtractor.SUMMARY_LENGTH))
                 .title(article.getTitle())
                 .build()
                 .toJson();
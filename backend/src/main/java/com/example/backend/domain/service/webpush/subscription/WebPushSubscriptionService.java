@@ -59,6 +59,13 @@ public class WebPushSubscriptionService {
                 .toList();
     }
 
+    public List<WebPushSubscriptionEntity> findActiveSubscriptions(List<UserEntity> users, NotificationSeverity severity) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        return webPushSubscriptionRepository.findAllByUserEntityInAndActiveIsTrue(users, severity);
+    }
+
     public List<WebPushSubscriptionEntity> updateSeverityLevel(String email, String severity){
         log.info("Updating severity level for user: {}", email);
         UserEntity user = userService.findUserByEmail(email);
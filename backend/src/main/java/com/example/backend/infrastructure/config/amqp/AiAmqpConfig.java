@@ -0,0 +1,39 @@
+package com.example.backend.infrastructure.config.amqp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ wiring used when {@code article.ai.transport=amqp}. The article queue belongs to
+ * the AI module's Dramatiq workers and is only published to; the impact reply queue and its
+ * dead letter queue are declared here.
+ */
+@Configuration
+@ConditionalOnProperty(name = "article.ai.transport", havingValue = "amqp")
+public class AiAmqpConfig {
+
+    @Bean
+    public Queue aiImpactQueue(@Value("${article.ai.amqp.impact-queue:ai.article-impacts}") String name) {
+        return QueueBuilder.durable(name)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(name + ".dlq")
+                .build();
+    }
+
+    @Bean
+    public Queue aiImpactDeadLetterQueue(@Value("${article.ai.amqp.impact-queue:ai.article-impacts}") String name) {
+        return QueueBuilder.durable(name + ".dlq").build();
+    }
+
+    @Bean
+    public MessageConverter amqpMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
+    }
+}
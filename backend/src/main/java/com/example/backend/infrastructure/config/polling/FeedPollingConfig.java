@@ -0,0 +1,33 @@
+package com.example.backend.infrastructure.config.polling;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableConfigurationProperties(FeedPollingProperties.class)
+public class FeedPollingConfig {
+
+    /**
+     * Runs feed polls only, so a slow feed never delays the {@code @Scheduled} jobs.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler feedPollingScheduler(FeedPollingProperties properties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(properties.getPoolSize());
+        scheduler.setThreadNamePrefix("feed-poll-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+
+    /**
+     * Scheduler of the {@code @Scheduled} jobs, configured by {@code spring.task.scheduling}.
+     * Declared here because any other scheduler bean disables Spring Boot's default one.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
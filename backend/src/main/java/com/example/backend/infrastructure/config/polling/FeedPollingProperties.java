@@ -0,0 +1,45 @@
+package com.example.backend.infrastructure.config.polling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Polled feeds and the bounds of their adaptive polling intervals.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.polling")
+public class FeedPollingProperties {
+    private Duration minInterval = Duration.ofMinutes(1);
+    private Duration maxInterval = Duration.ofMinutes(30);
+    private Duration initialInterval = Duration.ofMinutes(5);
+
+    /**
+     * Number of new items a single poll should find on average; the interval of every
+     * feed is derived from its observed arrival rate so that this number is met.
+     */
+    private double targetItemsPerPoll = 2;
+
+    private int poolSize = 4;
+
+    private List<Feed> feeds = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Feed {
+        private String url;
+
+        /**
+         * Fetcher handling the feed format, e.g. {@code bankier} or {@code polsat}.
+         */
+        private String source;
+
+        private Duration minInterval;
+        private Duration maxInterval;
+    }
+}
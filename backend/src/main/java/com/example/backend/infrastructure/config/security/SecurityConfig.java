@@ -45,7 +45,8 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/users/auth/login",
                                 "/users/auth/register",
-                                "/articles/*/stock-impacts"
+                                "/articles/*/stock-impacts",
+                                "/articles/stock-impacts/batch"
                         )
                         .permitAll()
                         .anyRequest()
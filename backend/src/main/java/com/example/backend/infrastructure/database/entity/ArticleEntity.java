@@ -43,6 +43,10 @@ public class ArticleEntity {
     @Column(name = "background_image")
     private String backgroundImage;
 
+    @Column(name = "canonical_article_id")
+    private String canonicalArticleId;
+
+    @ToString.Exclude
     @OneToMany(mappedBy = "article")
     private List<ArticleStockImpactEntity> articleImpacts = List.of();
 }
@@ -12,7 +12,8 @@ import jakarta.persistence.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "ARTICLE_STOCK_IMPACTS")
+@Table(name = "ARTICLE_STOCK_IMPACTS", uniqueConstraints = @UniqueConstraint(
+        name = "uq_article_stock_impacts_article_stock", columnNames = {"article_id", "stock_id"}))
 @ToString
 public class ArticleStockImpactEntity {
 
@@ -20,11 +21,13 @@ public class ArticleStockImpactEntity {
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "article_id", nullable = false)
     private ArticleEntity article;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "stock_id", nullable = false)
     private StockEntity stock;
 
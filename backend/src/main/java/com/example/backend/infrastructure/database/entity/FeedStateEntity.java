@@ -0,0 +1,41 @@
+package com.example.backend.infrastructure.database.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "RSS_FEED_STATES")
+@ToString
+public class FeedStateEntity {
+    @Id
+    @Column(name = "url", length = 512)
+    private String url;
+
+    @Column(name = "etag")
+    private String etag;
+
+    @Column(name = "last_modified")
+    private String lastModified;
+
+    @Column(name = "last_item_key", length = 512)
+    private String lastItemKey;
+
+    @Column(name = "last_published_at")
+    private Date lastPublishedAt;
+
+    @Column(name = "poll_interval_ms")
+    private Long pollIntervalMs;
+
+    @Column(name = "items_per_hour")
+    private Double itemsPerHour;
+
+    @Column(name = "updated_at", nullable = false)
+    private Date updatedAt;
+}
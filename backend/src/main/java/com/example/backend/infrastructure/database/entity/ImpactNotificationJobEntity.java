@@ -0,0 +1,64 @@
+package com.example.backend.infrastructure.database.entity;
+
+import com.example.backend.infrastructure.database.entity.enums.ImpactNotificationJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Push fan-out of impacts accepted by an asynchronous callback; its id is the tracking id
+ * returned to the AI module.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "IMPACT_NOTIFICATION_JOBS")
+@ToString
+public class ImpactNotificationJobEntity {
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private ImpactNotificationJobStatus status;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "impact_ids", nullable = false, columnDefinition = "varchar[]")
+    private List<String> impactIds;
+
+    /**
+     * Impacts whose pushes were sent; skipped when the job runs again.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "notified_impact_ids", nullable = false, columnDefinition = "varchar[]")
+    private List<String> notifiedImpactIds;
+
+    @Column(name = "notified")
+    private Integer notified;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private Date nextAttemptAt;
+
+    @Column(name = "error", columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Date createdAt;
+
+    @Column(name = "started_at")
+    private Date startedAt;
+
+    @Column(name = "completed_at")
+    private Date completedAt;
+}
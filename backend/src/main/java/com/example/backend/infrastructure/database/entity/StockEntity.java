@@ -40,6 +40,7 @@ public class StockEntity {
     @Column(nullable = false)
     private String exchange;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "stock")
     private List<ArticleStockImpactEntity> stockImpacts;
 }
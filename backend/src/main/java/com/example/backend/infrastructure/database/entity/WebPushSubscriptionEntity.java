@@ -25,7 +25,7 @@ public class WebPushSubscriptionEntity {
     private String endpoint;
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity userEntity;
     @Column(name = "device_id", unique = true, nullable = false)
@@ -0,0 +1,8 @@
+package com.example.backend.infrastructure.database.entity.enums;
+
+public enum ImpactNotificationJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.example.backend.infrastructure.database.projection;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Claimed outbox row together with the article fields sent to the AI module.
+ */
+public record AiOutboxEntry(long id, String articleId, Instant createdAt, String title, String description,
+                            Date publishedAt) {
+}
@@ -0,0 +1,8 @@
+package com.example.backend.infrastructure.database.projection;
+
+/**
+ * Number of outbox rows still to be delivered, the age of the oldest one and the number of
+ * dead rows that exhausted their attempts.
+ */
+public record AiOutboxLag(long pending, long oldestAgeSeconds, long dead) {
+}
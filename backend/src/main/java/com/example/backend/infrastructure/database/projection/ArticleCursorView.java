@@ -0,0 +1,12 @@
+package com.example.backend.infrastructure.database.projection;
+
+import java.util.Date;
+
+/**
+ * Position of an article in a listing ordered by {@code (published_at, id)}.
+ */
+public interface ArticleCursorView {
+    String getId();
+
+    Date getPublishedAt();
+}
@@ -0,0 +1,9 @@
+package com.example.backend.infrastructure.database.projection;
+
+public interface ArticleKeyView {
+    String getId();
+
+    String getSlug();
+
+    String getTitle();
+}
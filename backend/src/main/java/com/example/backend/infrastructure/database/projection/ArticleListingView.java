@@ -0,0 +1,24 @@
+package com.example.backend.infrastructure.database.projection;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Article as shown in listings, read straight from the columns with the non-neutral impacts
+ * aggregated per article, without loading entities.
+ */
+public record ArticleListingView(
+        String id,
+        String title,
+        String slug,
+        String description,
+        Date publishedAt,
+        String author,
+        String url,
+        String backgroundImage,
+        String canonicalArticleId,
+        List<StockImpact> stocks
+) {
+    public record StockImpact(String symbol, String impact) {
+    }
+}
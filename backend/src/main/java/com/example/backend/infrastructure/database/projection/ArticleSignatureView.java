@@ -0,0 +1,13 @@
+package com.example.backend.infrastructure.database.projection;
+
+import java.util.Date;
+
+public interface ArticleSignatureView {
+    String getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Date getPublishedAt();
+}
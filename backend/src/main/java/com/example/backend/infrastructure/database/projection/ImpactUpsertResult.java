@@ -0,0 +1,8 @@
+package com.example.backend.infrastructure.database.projection;
+
+/**
+ * Outcome of upserting one impact: the id of its row, the impact it replaced ({@code null}
+ * when the row is new) and whether impact or reason actually changed.
+ */
+public record ImpactUpsertResult(String id, String articleId, String stockId, String previousImpact, boolean changed) {
+}
@@ -0,0 +1,7 @@
+package com.example.backend.infrastructure.database.projection;
+
+public interface StockAliasView {
+    String getStockId();
+
+    String getAlias();
+}
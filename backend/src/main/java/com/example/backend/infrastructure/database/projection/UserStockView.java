@@ -0,0 +1,9 @@
+package com.example.backend.infrastructure.database.projection;
+
+import com.example.backend.infrastructure.database.entity.UserEntity;
+
+/**
+ * A user together with one of the stocks they follow.
+ */
+public record UserStockView(String stockId, UserEntity user) {
+}
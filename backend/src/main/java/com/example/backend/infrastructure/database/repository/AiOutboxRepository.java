@@ -0,0 +1,148 @@
+package com.example.backend.infrastructure.database.repository;
+
+import com.example.backend.infrastructure.database.projection.AiOutboxEntry;
+import com.example.backend.infrastructure.database.projection.AiOutboxLag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox of articles waiting to be handed over to the AI module. Rows are written in the
+ * transaction that inserts the articles and drained by relay workers, which lease batches
+ * with {@code FOR UPDATE SKIP LOCKED} so any number of workers can run side by side. Rows
+ * that keep failing are marked dead ({@code dead_at}) and are no longer claimed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiOutboxRepository {
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO ai_outbox (article_id)
+            SELECT unnest(?::varchar[])
+            ON CONFLICT (article_id) DO NOTHING
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE ai_outbox o
+            SET attempts = o.attempts + 1,
+                next_attempt_at = now() + make_interval(secs => ?::float8)
+            FROM articles a
+            WHERE o.id IN (SELECT id
+                           FROM ai_outbox
+                           WHERE delivered_at IS NULL AND dead_at IS NULL AND next_attempt_at <= now()
+                           ORDER BY next_attempt_at, id
+                           LIMIT ?
+                           FOR UPDATE SKIP LOCKED)
+              AND a.id = o.article_id
+            RETURNING o.id, o.article_id, o.created_at, a.title, a.description, a.published_at
+            """;
+
+    private static final String DELIVERED_SQL = """
+            UPDATE ai_outbox
+            SET delivered_at = now(), last_error = NULL
+            WHERE id = ANY(?)
+            """;
+
+    private static final String FAILED_SQL = """
+            UPDATE ai_outbox
+            SET next_attempt_at = now() + make_interval(secs => LEAST(?::float8, ?::float8 * power(2, attempts - 1))),
+                last_error = ?,
+                dead_at = CASE WHEN attempts >= ? THEN now() END
+            WHERE id = ANY(?)
+            RETURNING dead_at IS NOT NULL
+            """;
+
+    private static final String LAG_SQL = """
+            SELECT count(*) FILTER (WHERE dead_at IS NULL),
+                   COALESCE(EXTRACT(EPOCH FROM now() - min(created_at) FILTER (WHERE dead_at IS NULL)), 0),
+                   count(*) FILTER (WHERE dead_at IS NOT NULL)
+            FROM ai_outbox
+            WHERE delivered_at IS NULL
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM ai_outbox
+            WHERE delivered_at < now() - make_interval(secs => ?::float8)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void enqueue(Collection<String> articleIds) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ENQUEUE_SQL);
+            statement.setArray(1, connection.createArrayOf("varchar", articleIds.toArray()));
+            return statement;
+        });
+    }
+
+    /**
+     * Leases up to {@code limit} due rows: they become invisible to other workers for
+     * {@code lease} and come back automatically if the worker dies before settling them.
+     */
+    public List<AiOutboxEntry> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(
+                CLAIM_SQL,
+                (rs, rowNum) -> new AiOutboxEntry(
+                        rs.getLong("id"),
+                        rs.getString("article_id"),
+                        rs.getTimestamp("created_at").toInstant(),
+                        rs.getString("title"),
+                        rs.getString("description"),
+                        rs.getTimestamp("published_at")
+                ),
+                lease.toSeconds(), limit
+        );
+    }
+
+    public void markDelivered(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> withIds(connection, DELIVERED_SQL, ids, 1));
+    }
+
+    /**
+     * Schedules the rows for another attempt with exponential backoff based on their attempt
+     * count, or marks them dead once they were attempted {@code maxAttempts} times.
+     *
+     * @return number of rows marked dead
+     */
+    public int markFailed(Collection<Long> ids, String error, Duration baseBackoff, Duration maxBackoff, int maxAttempts) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Boolean> dead = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = withIds(connection, FAILED_SQL, ids, 5);
+            statement.setLong(1, maxBackoff.toSeconds());
+            statement.setLong(2, Math.max(1, baseBackoff.toSeconds()));
+            statement.setString(3, error);
+            statement.setInt(4, maxAttempts);
+            return statement;
+        }, (rs, rowNum) -> rs.getBoolean(1));
+        return (int) dead.stream().filter(Boolean::booleanValue).count();
+    }
+
+    public AiOutboxLag lag() {
+        return jdbcTemplate.queryForObject(LAG_SQL, (rs, rowNum) -> new AiOutboxLag(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    public int purgeDelivered(Duration retention) {
+        return jdbcTemplate.update(PURGE_SQL, retention.toSeconds());
+    }
+
+    private static PreparedStatement withIds(Connection connection, String sql, Collection<Long> ids, int index)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setArray(index, connection.createArrayOf("bigint", ids.toArray()));
+        return statement;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.backend.infrastructure.database.repository;
+
+import com.example.backend.infrastructure.database.entity.ArticleEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk insert path for articles. Every chunk is sent as a single statement with the
+ * columns bound as arrays, so a chunk costs one round trip regardless of its size.
+ * Rows clashing with an existing id, slug or title are skipped by the database instead
+ * of failing the whole batch, which also keeps concurrent ingestion runs safe.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleBulkRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO articles (id, title, slug, description, published_at, author, url, background_image, canonical_article_id)
+            SELECT id, title, slug, description, published_at, author, url, COALESCE(background_image, ''), canonical_article_id
+            FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::text[], ?::timestamp[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[])
+                AS t (id, title, slug, description, published_at, author, url, background_image, canonical_article_id)
+            ON CONFLICT DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String RELINK_SQL = """
+            UPDATE articles a
+            SET canonical_article_id = (SELECT coalesce(e.canonical_article_id, e.id)
+                                        FROM articles e
+                                        WHERE (e.title = t.title OR e.slug = t.slug) AND e.id <> a.id
+                                        ORDER BY e.title = t.title DESC
+                                        LIMIT 1)
+            FROM unnest(?::varchar[], ?::varchar[], ?::varchar[]) AS t (id, title, slug)
+            WHERE a.id = t.id
+            RETURNING a.id, a.canonical_article_id
+            """;
+
+    /**
+     * Key of the transaction-scoped advisory lock serializing canonical assignment.
+     */
+    private static final long CANONICAL_ASSIGNMENT_LOCK = 0x6e6561725f647570L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${article.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Inserts the articles, which must already have their ids assigned.
+     *
+     * @return ids of the rows that were actually inserted
+     */
+    public Set<String> insertIgnoringConflicts(List<ArticleEntity> articles) {
+        Set<String> inserted = new HashSet<>();
+        for (int from = 0; from < articles.size(); from += chunkSize) {
+            List<ArticleEntity> chunk = articles.subList(from, Math.min(from + chunkSize, articles.size()));
+            inserted.addAll(jdbcTemplate.query(
+                    connection -> prepareInsert(connection, chunk),
+                    (rs, rowNum) -> rs.getString(1)
+            ));
+        }
+        return inserted;
+    }
+
+    /**
+     * Waits until no other transaction assigns canonical articles; the lock is released when
+     * the current transaction ends.
+     */
+    public void lockCanonicalAssignment() {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, CANONICAL_ASSIGNMENT_LOCK);
+    }
+
+    /**
+     * Moves links to canonical articles that were skipped on conflict to the row they
+     * conflicted with (same title or slug), or to that row's own canonical article.
+     *
+     * @param skippedCanonicals skipped canonical article of every linked article, by id of the linked article
+     * @return new canonical article id of every linked article, {@code null} when no conflicting row was found
+     */
+    public Map<String, String> relinkCanonicals(Map<String, ArticleEntity> skippedCanonicals) {
+        Map<String, String> relinked = new HashMap<>();
+        if (skippedCanonicals.isEmpty()) {
+            return relinked;
+        }
+        List<String> ids = List.copyOf(skippedCanonicals.keySet());
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RELINK_SQL);
+            statement.setArray(1, connection.createArrayOf("varchar", ids.toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar",
+                    ids.stream().map(id -> skippedCanonicals.get(id).getTitle()).toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar",
+                    ids.stream().map(id -> skippedCanonicals.get(id).getSlug()).toArray()));
+            return statement;
+        }, (ResultSet rs) -> {
+            relinked.put(rs.getString(1), rs.getString(2));
+        });
+        return relinked;
+    }
+
+    private static PreparedStatement prepareInsert(Connection connection, List<ArticleEntity> chunk) throws SQLException {
+        int size = chunk.size();
+        String[] ids = new String[size];
+        String[] titles = new String[size];
+        String[] slugs = new String[size];
+        String[] descriptions = new String[size];
+        Timestamp[] publishedAt = new Timestamp[size];
+        String[] authors = new String[size];
+        String[] urls = new String[size];
+        String[] backgroundImages = new String[size];
+        String[] canonicalIds = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            ArticleEntity article = chunk.get(i);
+            ids[i] = article.getId();
+            titles[i] = article.getTitle();
+            slugs[i] = article.getSlug();
+            descriptions[i] = article.getDescription();
+            publishedAt[i] = new Timestamp(article.getPublishedAt().getTime());
+            authors[i] = article.getAuthor();
+            urls[i] = article.getUrl();
+            backgroundImages[i] = article.getBackgroundImage();
+            canonicalIds[i] = article.getCanonicalArticleId();
+        }
+
+        PreparedStatement statement = connection.prepareStatement(INSERT_SQL);
+        statement.setArray(1, connection.createArrayOf("varchar", ids));
+        statement.setArray(2, connection.createArrayOf("varchar", titles));
+        statement.setArray(3, connection.createArrayOf("varchar", slugs));
+        statement.setArray(4, connection.createArrayOf("text", descriptions));
+        statement.setArray(5, connection.createArrayOf("timestamp", publishedAt));
+        statement.setArray(6, connection.createArrayOf("varchar", authors));
+        statement.setArray(7, connection.createArrayOf("varchar", urls));
+        statement.setArray(8, connection.createArrayOf("varchar", backgroundImages));
+        statement.setArray(9, connection.createArrayOf("varchar", canonicalIds));
+        return statement;
+    }
+}
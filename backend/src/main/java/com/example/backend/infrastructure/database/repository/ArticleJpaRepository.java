@@ -1,43 +1,125 @@
 package com.example.backend.infrastructure.database.repository;
 
 import com.example.backend.infrastructure.database.entity.ArticleEntity;
-import org.springframework.data.domain.Page;
+import com.example.backend.infrastructure.database.projection.ArticleCursorView;
+import com.example.backend.infrastructure.database.projection.ArticleKeyView;
+import com.example.backend.infrastructure.database.projection.ArticleSignatureView;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ArticleJpaRepository extends JpaRepository<ArticleEntity, String> {
 
-    List<ArticleEntity> findAll(Specification<ArticleEntity> spec, Pageable pageable);
+    @Query("SELECT a.slug FROM ArticleEntity a WHERE a.slug IN :slugs")
+    List<String> findExistingSlugs(@Param("slugs") Collection<String> slugs);
+
+    @Query("SELECT a.title FROM ArticleEntity a WHERE a.title IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    @Query("SELECT a.id AS id, a.slug AS slug, a.title AS title FROM ArticleEntity a WHERE a.id > :afterId ORDER BY a.id")
+    List<ArticleKeyView> findKeysAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    @Query("SELECT a.id AS id, a.title AS title, a.description AS description, a.publishedAt AS publishedAt " +
+            "FROM ArticleEntity a WHERE a.publishedAt >= :since AND a.canonicalArticleId IS NULL")
+    List<ArticleSignatureView> findCanonicalPublishedAfter(@Param("since") Date since);
+
+    /**
+     * Finds articles published in {@code [from, to)}, newest first, before the
+     * {@code (publishedAt, id)} cursor. Listings only read keys here and load the articles
+     * through {@link ArticleListingRepository}.
+     *
+     * @param stockFilter lower-case {@code LIKE} pattern (escaped with {@code \}) for the stock name or symbol, empty for any stock
+     * @param pageable    page size; the page number is only used by clients without a cursor.
+     * @return Slice of keys, without counting the total.
+     */
+    @Query(value = """
+            SELECT a.id AS id, a.published_at AS "publishedAt" FROM articles a
+            WHERE a.published_at >= :from AND a.published_at < :to
+              AND (:stockFilter = '' OR EXISTS (
+                    SELECT 1 FROM article_stock_impacts i JOIN stocks s ON s.id = i.stock_id
+                    WHERE i.article_id = a.id
+                      AND (lower(s.name) LIKE :stockFilter ESCAPE '\\' OR lower(s.symbol) LIKE :stockFilter ESCAPE '\\')))
+              AND (a.published_at, a.id) < (:publishedAt, :id)
+            ORDER BY a.published_at DESC, a.id DESC
+            """, nativeQuery = true)
+    Slice<ArticleCursorView> findKeys(@Param("from") Date from,
+                                      @Param("to") Date to,
+                                      @Param("stockFilter") String stockFilter,
+                                      @Param("publishedAt") Date publishedAt,
+                                      @Param("id") String id,
+                                      Pageable pageable);
 
-    List<ArticleEntity> findBySlugIsIn(List<String> slugs);
     /**
-     * Version with pagination and sorting.
-     * Finds unique articles related to stocks observed by a specific user.
-     * Improved version: starts from UserEntity.
+     * Reads the user's feed of articles related to the stocks they observe, newest first,
+     * published before the {@code (publishedAt, id)} cursor. Only the feed index is read.
      *
      * @param userId   User ID.
-     * @param pageable Pageable object for pagination and sorting.
-     * @return Page of unique ArticleEntity.
+     * @param pageable page size; the page number is only used by clients without a cursor.
+     * @return Slice of keys, without counting the total.
      */
-    @Query(value = "SELECT DISTINCT a FROM UserEntity u " +
-            "JOIN u.stocks s " +
-            "JOIN s.stockImpacts asi " +
-            "JOIN asi.article a " +
-            "WHERE u.id = :userId",
-            countQuery = "SELECT COUNT(DISTINCT a) FROM UserEntity u " +
-                    "JOIN u.stocks s " +
-                    "JOIN s.stockImpacts asi " +
-                    "JOIN asi.article a " +
-                    "WHERE u.id = :userId")
-    Page<ArticleEntity> findArticlesByUserId(@Param("userId") String userId, Pageable pageable);
+    @Query(value = "SELECT f.article_id AS id, f.published_at AS \"publishedAt\" FROM user_article_feed f " +
+            "WHERE f.user_id = :userId AND (f.published_at, f.article_id) < (:publishedAt, :id) " +
+            "ORDER BY f.published_at DESC, f.article_id DESC", nativeQuery = true)
+    Slice<ArticleCursorView> findFeedKeysByUserId(@Param("userId") String userId,
+                                                  @Param("publishedAt") Date publishedAt,
+                                                  @Param("id") String id,
+                                                  Pageable pageable);
+
+    /**
+     * Finds articles with a non-neutral impact on the stock, newest first, published before
+     * the {@code (publishedAt, id)} cursor.
+     */
+    @Query("SELECT a.id AS id, a.publishedAt AS publishedAt FROM ArticleEntity a JOIN a.articleImpacts asi " +
+            "WHERE asi.stock.symbol = :symbol AND asi.impact <> 'none' " +
+            "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) " +
+            "ORDER BY a.publishedAt DESC, a.id DESC")
+    Slice<ArticleCursorView> findKeysByStockSymbol(@Param("symbol") String symbol,
+                                                   @Param("publishedAt") Date publishedAt,
+                                                   @Param("id") String id,
+                                                   Pageable pageable);
+
+    /**
+     * Full-text search over {@code search_vector} (title weighted above description). Matches
+     * are ranked by {@code ts_rank} divided by {@code 1 + age / recencyScale}, so an article
+     * {@code recencyScale} seconds old needs twice the text relevance of a fresh one.
+     *
+     * @param query       {@code to_tsquery} expression, see {@code ArticleSearchQuery}
+     * @param stockFilter lower-case {@code LIKE} pattern (escaped with {@code \}) for the stock name or symbol, empty for any stock
+     */
+    @Query(value = """
+            SELECT a.id AS id, a.published_at AS "publishedAt" FROM articles a
+            WHERE a.search_vector @@ to_tsquery('polish_unaccent', :query)
+              AND a.published_at >= :from AND a.published_at < :to
+              AND (:stockFilter = '' OR EXISTS (
+                    SELECT 1 FROM article_stock_impacts i JOIN stocks s ON s.id = i.stock_id
+                    WHERE i.article_id = a.id
+                      AND (lower(s.name) LIKE :stockFilter ESCAPE '\\' OR lower(s.symbol) LIKE :stockFilter ESCAPE '\\')))
+            ORDER BY ts_rank(a.search_vector, to_tsquery('polish_unaccent', :query))
+                         / (1 + EXTRACT(EPOCH FROM (now() - a.published_at)) / :recencyScale) DESC,
+                     a.published_at DESC, a.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<ArticleCursorView> searchFullText(@Param("query") String query,
+                                           @Param("from") Date from,
+                                           @Param("to") Date to,
+                                           @Param("stockFilter") String stockFilter,
+                                           @Param("recencyScale") double recencyScale,
+                                           @Param("offset") int offset,
+                                           @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = {"articleImpacts", "articleImpacts.stock"})
+    Optional<ArticleEntity> findWithImpactsById(String id);
 
+    @EntityGraph(attributePaths = {"articleImpacts", "articleImpacts.stock"})
     Optional<ArticleEntity> findBySlug(String slug);
 }
@@ -0,0 +1,78 @@
+package com.example.backend.infrastructure.database.repository;
+
+import com.example.backend.infrastructure.database.projection.ArticleListingView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read model of article listings. A page is loaded in one statement: the article columns
+ * plus the {@code (symbol, impact)} pairs aggregated per article, in the order of the ids
+ * passed in. Nothing is attached to the persistence context, so there is no lazy loading
+ * and no dirty checking.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleListingRepository {
+    private static final String FIND_SQL = """
+            SELECT a.id, a.title, a.slug, a.description, a.published_at, a.author, a.url,
+                   a.background_image, a.canonical_article_id,
+                   array_agg(s.symbol ORDER BY s.symbol) FILTER (WHERE s.id IS NOT NULL),
+                   array_agg(i.impact ORDER BY s.symbol) FILTER (WHERE s.id IS NOT NULL)
+            FROM unnest(?::varchar[]) WITH ORDINALITY AS page (id, position)
+            JOIN articles a ON a.id = page.id
+            LEFT JOIN article_stock_impacts i ON i.article_id = a.id AND i.impact <> 'none'
+            LEFT JOIN stocks s ON s.id = i.stock_id
+            GROUP BY page.position, a.id
+            ORDER BY page.position
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the existing articles among {@code ids}, in the same order
+     */
+    public List<ArticleListingView> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_SQL);
+            statement.setArray(1, connection.createArrayOf("varchar", ids.toArray()));
+            return statement;
+        }, (rs, rowNum) -> new ArticleListingView(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getTimestamp(5),
+                rs.getString(6),
+                rs.getString(7),
+                rs.getString(8),
+                rs.getString(9),
+                stocks(rs)
+        ));
+    }
+
+    private static List<ArticleListingView.StockImpact> stocks(ResultSet rs) throws SQLException {
+        Array symbolsArray = rs.getArray(10);
+        if (symbolsArray == null) {
+            return List.of();
+        }
+        String[] symbols = (String[]) symbolsArray.getArray();
+        String[] impacts = (String[]) rs.getArray(11).getArray();
+        List<ArticleListingView.StockImpact> stocks = new ArrayList<>(symbols.length);
+        for (int i = 0; i < symbols.length; i++) {
+            stocks.add(new ArticleListingView.StockImpact(symbols[i], impacts[i]));
+        }
+        return stocks;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend.infrastructure.database.repository;
+
+import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
+import com.example.backend.infrastructure.database.projection.ImpactUpsertResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Upsert path for impacts reported by the AI module, keyed on {@code (article_id, stock_id)}.
+ * Every chunk is sent as a single statement with the columns bound as arrays. An existing
+ * row is only rewritten when its impact or reason differs, and the previous impact is
+ * returned so callers can tell a new or escalated impact from a repeated callback.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleStockImpactBulkRepository {
+    private static final String UPSERT_SQL = """
+            WITH input AS (
+                SELECT *
+                FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::text[])
+                    AS t (id, article_id, stock_id, impact, reason)
+            ),
+            previous AS (
+                SELECT i.id, i.article_id, i.stock_id, i.impact
+                FROM article_stock_impacts i
+                JOIN input USING (article_id, stock_id)
+                FOR UPDATE OF i
+            ),
+            upserted AS (
+                INSERT INTO article_stock_impacts (id, article_id, stock_id, impact, reason)
+                SELECT id, article_id, stock_id, impact, reason FROM input
+                ON CONFLICT (article_id, stock_id) DO UPDATE
+                    SET impact = EXCLUDED.impact, reason = EXCLUDED.reason
+                    WHERE (article_stock_impacts.impact, article_stock_impacts.reason)
+                        IS DISTINCT FROM (EXCLUDED.impact, EXCLUDED.reason)
+                RETURNING id, article_id, stock_id
+            )
+            SELECT COALESCE(u.id, p.id), input.article_id, input.stock_id, p.impact, u.id IS NOT NULL
+            FROM input
+            LEFT JOIN upserted u USING (article_id, stock_id)
+            LEFT JOIN previous p USING (article_id, stock_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${article.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Upserts the impacts, which must have their ids assigned (used only for new rows) and
+     * must not repeat an article/stock pair.
+     */
+    public List<ImpactUpsertResult> upsertAll(List<ArticleStockImpactEntity> impacts) {
+        List<ImpactUpsertResult> results = new ArrayList<>(impacts.size());
+        for (int from = 0; from < impacts.size(); from += chunkSize) {
+            List<ArticleStockImpactEntity> chunk = impacts.subList(from, Math.min(from + chunkSize, impacts.size()));
+            results.addAll(jdbcTemplate.query(
+                    connection -> prepareUpsert(connection, chunk),
+                    (rs, rowNum) -> new ImpactUpsertResult(rs.getString(1), rs.getString(2), rs.getString(3),
+                            rs.getString(4), rs.getBoolean(5))
+            ));
+        }
+        return results;
+    }
+
+    private static PreparedStatement prepareUpsert(Connection connection, List<ArticleStockImpactEntity> chunk) throws SQLException {
+        int size = chunk.size();
+        String[] ids = new String[size];
+        String[] articleIds = new String[size];
+        String[] stockIds = new String[size];
+        String[] impacts = new String[size];
+        String[] reasons = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            ArticleStockImpactEntity impact = chunk.get(i);
+            ids[i] = impact.getId();
+            articleIds[i] = impact.getArticle().getId();
+            stockIds[i] = impact.getStock().getId();
+            impacts[i] = impact.getImpact();
+            reasons[i] = impact.getReason();
+        }
+
+        PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+        statement.setArray(1, connection.createArrayOf("varchar", ids));
+        statement.setArray(2, connection.createArrayOf("varchar", articleIds));
+        statement.setArray(3, connection.createArrayOf("varchar", stockIds));
+        statement.setArray(4, connection.createArrayOf("varchar", impacts));
+        statement.setArray(5, connection.createArrayOf("text", reasons));
+        return statement;
+    }
+}
@@ -1,16 +1,44 @@
 package com.example.backend.infrastructure.database.repository;
 
 import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ArticleStockImpactJpaRepository extends JpaRepository<ArticleStockImpactEntity, String> {
-    @Query("SELECT a FROM ArticleStockImpactEntity a WHERE a.stock.symbol = :symbol AND a.impact <> 'none'")
-    List<ArticleStockImpactEntity> findAllByStockSymbol(@Param("symbol") String symbol, Pageable pageable);
-}
\ No newline at end of file
+    @EntityGraph(attributePaths = {"article", "stock"})
+    List<ArticleStockImpactEntity> findAllWithArticleAndStockByIdIn(Collection<String> ids);
+
+    @EntityGraph(attributePaths = {"article", "stock"})
+    Optional<ArticleStockImpactEntity> findFirstBy();
+
+    /**
+     * Gives near-duplicate articles the impacts their canonical article already has.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO article_stock_impacts (id, article_id, stock_id, impact, reason) " +
+            "SELECT gen_random_uuid()::varchar, a.id, i.stock_id, i.impact, i.reason " +
+            "FROM articles a JOIN article_stock_impacts i ON i.article_id = a.canonical_article_id " +
+            "WHERE a.id IN :articleIds " +
+            "ON CONFLICT (article_id, stock_id) DO NOTHING", nativeQuery = true)
+    int copyCanonicalImpacts(@Param("articleIds") Collection<String> articleIds);
+
+    /**
+     * Copies the given impacts of canonical articles to their near-duplicates.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO article_stock_impacts (id, article_id, stock_id, impact, reason) " +
+            "SELECT gen_random_uuid()::varchar, a.id, i.stock_id, i.impact, i.reason " +
+            "FROM article_stock_impacts i JOIN articles a ON a.canonical_article_id = i.article_id " +
+            "WHERE i.id IN :impactIds " +
+            "ON CONFLICT (article_id, stock_id) DO UPDATE SET impact = EXCLUDED.impact, reason = EXCLUDED.reason", nativeQuery = true)
+    int copyImpactsToDuplicates(@Param("impactIds") Collection<String> impactIds);
+}
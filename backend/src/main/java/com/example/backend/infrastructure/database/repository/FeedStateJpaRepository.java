@@ -0,0 +1,9 @@
+package com.example.backend.infrastructure.database.repository;
+
+import com.example.backend.infrastructure.database.entity.FeedStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FeedStateJpaRepository extends JpaRepository<FeedStateEntity, String> {
+}
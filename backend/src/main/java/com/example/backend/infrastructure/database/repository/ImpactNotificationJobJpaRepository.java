@@ -0,0 +1,88 @@
+package com.example.backend.infrastructure.database.repository;
+
+import com.example.backend.infrastructure.database.entity.ImpactNotificationJobEntity;
+import com.example.backend.infrastructure.database.entity.enums.ImpactNotificationJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface ImpactNotificationJobJpaRepository extends JpaRepository<ImpactNotificationJobEntity, String> {
+
+    /**
+     * Moves a due job from {@code queued} to {@code running} and counts the attempt; returns 0
+     * when another worker got there first or its retry is not due yet.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImpactNotificationJobEntity j SET j.status = :running, j.startedAt = :now, j.attempts = j.attempts + 1 " +
+            "WHERE j.id = :id AND j.status = :queued AND (j.nextAttemptAt IS NULL OR j.nextAttemptAt <= :now)")
+    int start(@Param("id") String id, @Param("queued") ImpactNotificationJobStatus queued,
+              @Param("running") ImpactNotificationJobStatus running, @Param("now") Date now);
+
+    /**
+     * Records that the pushes of an impact were sent.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE impact_notification_jobs SET notified_impact_ids = array_append(notified_impact_ids, CAST(:impactId AS varchar)), " +
+            "notified = COALESCE(notified, 0) + :sent WHERE id = :id", nativeQuery = true)
+    int markNotified(@Param("id") String id, @Param("impactId") String impactId, @Param("sent") int sent);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImpactNotificationJobEntity j SET j.status = :status, j.error = :error, j.completedAt = :now WHERE j.id = :id")
+    int finish(@Param("id") String id, @Param("status") ImpactNotificationJobStatus status,
+               @Param("error") String error, @Param("now") Date now);
+
+    /**
+     * Puts a failed job back in the queue, due at {@code nextAttemptAt}.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImpactNotificationJobEntity j SET j.status = :queued, j.error = :error, j.nextAttemptAt = :nextAttemptAt " +
+            "WHERE j.id = :id")
+    int retry(@Param("id") String id, @Param("queued") ImpactNotificationJobStatus queued,
+              @Param("error") String error, @Param("nextAttemptAt") Date nextAttemptAt);
+
+    /**
+     * Puts jobs whose worker died (e.g. on restart) back in the queue, unless they used up
+     * their attempts.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImpactNotificationJobEntity j SET j.status = :queued " +
+            "WHERE j.status = :running AND j.startedAt < :startedBefore AND j.attempts < :maxAttempts")
+    int requeueStale(@Param("queued") ImpactNotificationJobStatus queued, @Param("running") ImpactNotificationJobStatus running,
+                     @Param("startedBefore") Date startedBefore, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Gives up on jobs whose worker died on their last attempt.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImpactNotificationJobEntity j SET j.status = :failed, j.error = :error, j.completedAt = :now " +
+            "WHERE j.status = :running AND j.startedAt < :startedBefore AND j.attempts >= :maxAttempts")
+    int failStale(@Param("failed") ImpactNotificationJobStatus failed, @Param("running") ImpactNotificationJobStatus running,
+                  @Param("startedBefore") Date startedBefore, @Param("maxAttempts") int maxAttempts,
+                  @Param("error") String error, @Param("now") Date now);
+
+    @Query("SELECT j.id FROM ImpactNotificationJobEntity j WHERE j.status = :status AND j.createdAt < :createdBefore " +
+            "AND (j.nextAttemptAt IS NULL OR j.nextAttemptAt <= :now) ORDER BY j.createdAt")
+    List<String> findDueIds(@Param("status") ImpactNotificationJobStatus status,
+                            @Param("createdBefore") Date createdBefore,
+                            @Param("now") Date now,
+                            Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ImpactNotificationJobEntity j WHERE j.completedAt < :completedBefore")
+    int deleteCompletedBefore(@Param("completedBefore") Date completedBefore);
+}
@@ -1,9 +1,11 @@
 package com.example.backend.infrastructure.database.repository;
 
 import com.example.backend.infrastructure.database.entity.StockEntity;
+import com.example.backend.infrastructure.database.projection.StockAliasView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +15,21 @@ import java.util.Optional;
 public interface StockJpaRepository extends JpaRepository<StockEntity, String> {
     Optional<StockEntity> findBySymbol(String symbol);
     List<StockEntity> findAll(Specification<StockEntity> spec, Pageable pageable);
+
+    @Query(value = "SELECT stock_id AS stockId, alias AS alias FROM stock_aliases", nativeQuery = true)
+    List<StockAliasView> findAllAliases();
+
+    /**
+     * Changes whenever a stock or alias is added, removed or renamed.
+     */
+    @Query(value = "SELECT md5(COALESCE((SELECT string_agg(id || ':' || symbol || ':' || name, ',' ORDER BY id) FROM stocks), '') " +
+            "|| COALESCE((SELECT string_agg(stock_id || ':' || alias, ',' ORDER BY stock_id, alias) FROM stock_aliases), ''))",
+            nativeQuery = true)
+    String stocksFingerprint();
+
+    /**
+     * Changes whenever any column of any stock changes.
+     */
+    @Query(value = "SELECT md5(COALESCE(string_agg(s::text, ',' ORDER BY s.id), '')) FROM stocks s", nativeQuery = true)
+    String stockRowsFingerprint();
 }
@@ -0,0 +1,108 @@
+package com.example.backend.infrastructure.database.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+
+/**
+ * Per-user article feed, written when impacts are stored ({@code user_article_feed}). The
+ * primary key {@code (user_id, published_at, article_id)} is the read order, so a feed
+ * page costs the same however many stocks the user follows. Feeds are capped at
+ * {@code article.user-feed.max-articles} by {@link #trim()}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserArticleFeedRepository {
+    private static final String ADD_ARTICLES_SQL = """
+            INSERT INTO user_article_feed (user_id, published_at, article_id)
+            SELECT DISTINCT us.user_id, a.published_at, a.id
+            FROM articles a
+            JOIN article_stock_impacts i ON i.article_id = a.id
+            JOIN user_stocks us ON us.stock_id = i.stock_id
+            WHERE a.id = ANY(?) OR a.canonical_article_id = ANY(?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String ADD_STOCK_SQL = """
+            INSERT INTO user_article_feed (user_id, published_at, article_id)
+            SELECT ?, a.published_at, a.id
+            FROM article_stock_impacts i
+            JOIN articles a ON a.id = i.article_id
+            WHERE i.stock_id = ?
+            ORDER BY a.published_at DESC, a.id DESC
+            LIMIT ?
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String REMOVE_STOCK_SQL = """
+            DELETE FROM user_article_feed f
+            WHERE f.user_id = ?
+              AND f.article_id IN (SELECT article_id FROM article_stock_impacts WHERE stock_id = ?)
+              AND NOT EXISTS (SELECT 1
+                              FROM article_stock_impacts i
+                              JOIN user_stocks us ON us.stock_id = i.stock_id
+                              WHERE i.article_id = f.article_id AND us.user_id = f.user_id AND us.stock_id <> ?)
+            """;
+
+    private static final String TRIM_SQL = """
+            DELETE FROM user_article_feed f
+            USING (SELECT oversized.user_id, boundary.published_at, boundary.article_id
+                   FROM (SELECT user_id FROM user_article_feed GROUP BY user_id HAVING count(*) > ?) oversized
+                   CROSS JOIN LATERAL (SELECT published_at, article_id
+                                       FROM user_article_feed
+                                       WHERE user_id = oversized.user_id
+                                       ORDER BY published_at DESC, article_id DESC
+                                       OFFSET ? LIMIT 1) boundary) cutoff
+            WHERE f.user_id = cutoff.user_id
+              AND (f.published_at, f.article_id) < (cutoff.published_at, cutoff.article_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${article.user-feed.max-articles:1000}")
+    private int maxArticles;
+
+    /**
+     * Adds the articles, and their near-duplicates, to the feeds of users following any of
+     * the stocks they have impacts on.
+     */
+    public int addArticles(Collection<String> articleIds) {
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            Array ids = connection.createArrayOf("varchar", articleIds.toArray());
+            PreparedStatement statement = connection.prepareStatement(ADD_ARTICLES_SQL);
+            statement.setArray(1, ids);
+            statement.setArray(2, ids);
+            return statement;
+        });
+    }
+
+    /**
+     * Backfills the newest articles of a stock the user started following.
+     */
+    public int addStock(String userId, String stockId) {
+        return jdbcTemplate.update(ADD_STOCK_SQL, userId, stockId, maxArticles);
+    }
+
+    /**
+     * Removes articles of a stock the user stopped following, unless they also concern
+     * another stock the user follows.
+     */
+    public int removeStock(String userId, String stockId) {
+        return jdbcTemplate.update(REMOVE_STOCK_SQL, userId, stockId, stockId);
+    }
+
+    /**
+     * Deletes everything past the newest {@code max-articles} entries of every feed.
+     */
+    public int trim() {
+        return jdbcTemplate.update(TRIM_SQL, maxArticles, maxArticles - 1);
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.backend.infrastructure.database.repository;
 
 import com.example.backend.infrastructure.database.entity.UserEntity;
+import com.example.backend.infrastructure.database.projection.UserStockView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +15,8 @@ import java.util.Optional;
 public interface UserJpaRepository extends JpaRepository<UserEntity, String> {
     Optional<UserEntity> findByEmail(String email);
     List<UserEntity> findAllByStocksId(String stocksId);
+
+    @Query("SELECT new com.example.backend.infrastructure.database.projection.UserStockView(s.id, u) " +
+            "FROM UserEntity u JOIN u.stocks s WHERE s.id IN :stockIds")
+    List<UserStockView> findAllByStocksIdIn(@Param("stockIds") Collection<String> stockIds);
 }
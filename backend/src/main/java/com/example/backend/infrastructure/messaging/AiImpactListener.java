@@ -0,0 +1,28 @@
+package com.example.backend.infrastructure.messaging;
+
+import com.example.backend.domain.dto.AiStockImpactMessage;
+import com.example.backend.domain.service.impact.ArticleStockImpactHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes impacts the AI module publishes on the reply queue; the queued counterpart of
+ * {@code POST /articles/{id}/stock-impacts}. Messages that still fail after the listener
+ * retries are dead-lettered to {@code <impact-queue>.dlq}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.ai.transport", havingValue = "amqp")
+public class AiImpactListener {
+    private final ArticleStockImpactHandler articleStockImpactHandler;
+
+    @RabbitListener(queues = "${article.ai.amqp.impact-queue:ai.article-impacts}")
+    public void onImpact(AiStockImpactMessage message) {
+        log.info("Received impact for article {} over AMQP", message.article_id());
+        articleStockImpactHandler.handle(message.toImpactDto());
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.backend.infrastructure.schedule;
+
+import com.example.backend.domain.dto.AiArticleRequest;
+import com.example.backend.domain.service.external.ai.AiArticlePublisher;
+import com.example.backend.domain.service.stock.matcher.StockMentionMatcher;
+import com.example.backend.infrastructure.database.projection.AiOutboxEntry;
+import com.example.backend.infrastructure.database.projection.AiOutboxLag;
+import com.example.backend.infrastructure.database.repository.AiOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the AI outbox: leases due rows in batches, hands them to the configured {@link AiArticlePublisher}
+ * and settles them as delivered or schedules a retry with backoff. A row that failed
+ * {@code article.ai.outbox.max-attempts} times is marked dead and left for inspection. Workers coordinate only
+ * through row locks, so the relay can be disabled here ({@code article.ai.outbox.relay-enabled})
+ * and scaled out in separate instances.
+ * <p>
+ * Every article carries the stocks {@link StockMentionMatcher} found in it. Articles that
+ * mention no stock are settled without being sent ({@code article.ai.skip-unmatched}).
+ * Nothing is claimed until the matcher has loaded the stocks, so no article is skipped or
+ * sent without candidates only because the relay ran first.
+ * <p>
+ * Metrics: {@code ai.outbox.pending}, {@code ai.outbox.oldest-age} (seconds),
+ * {@code ai.outbox.delivery-lag} (time from insert to delivery), {@code ai.outbox.skipped},
+ * {@code ai.outbox.dead} (dead rows) and {@code ai.outbox.dead-lettered} (rows marked dead).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.ai.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class AiOutboxRelay {
+    private final AiOutboxRepository aiOutboxRepository;
+    private final AiArticlePublisher aiArticlePublisher;
+    private final StockMentionMatcher stockMentionMatcher;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    @Value("${article.ai.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${article.ai.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${article.ai.outbox.lease:2m}")
+    private Duration lease;
+
+    @Value("${article.ai.outbox.retry-backoff:10s}")
+    private Duration retryBackoff;
+
+    @Value("${article.ai.outbox.max-retry-backoff:30m}")
+    private Duration maxRetryBackoff;
+
+    @Value("${article.ai.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${article.ai.outbox.retention:7d}")
+    private Duration retention;
+
+    @Value("${article.ai.skip-unmatched:true}")
+    private boolean skipUnmatched;
+
+    private Timer deliveryLag;
+    private Counter skipped;
+    private Counter deadLettered;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("ai.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("ai.outbox.oldest-age", oldestAgeSeconds, AtomicLong::get).baseUnit("seconds").register(meterRegistry);
+        deliveryLag = Timer.builder("ai.outbox.delivery-lag").register(meterRegistry);
+        skipped = Counter.builder("ai.outbox.skipped").register(meterRegistry);
+        Gauge.builder("ai.outbox.dead", dead, AtomicLong::get).register(meterRegistry);
+        deadLettered = Counter.builder("ai.outbox.dead-lettered").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${article.ai.outbox.poll-interval-ms:2000}")
+    public void relay() {
+        if (!stockMentionMatcher.isLoaded()) {
+            log.debug("Stock matcher not loaded yet, AI outbox left pending");
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<AiOutboxEntry> claimed = aiOutboxRepository.claim(batchSize, lease);
+                if (claimed.isEmpty()) {
+                    break;
+                }
+                deliver(claimed);
+                if (claimed.size() < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            refreshLag();
+        }
+    }
+
+    @Scheduled(cron = "${article.ai.outbox.purge-cron:0 0 * * * *}")
+    public void purge() {
+        int purged = aiOutboxRepository.purgeDelivered(retention);
+        if (purged > 0) {
+            log.info("Purged {} delivered AI outbox rows", purged);
+        }
+    }
+
+    private void deliver(List<AiOutboxEntry> entries) {
+        List<AiArticleRequest> requests = new ArrayList<>(entries.size());
+        Set<String> unmatched = new HashSet<>();
+        for (AiOutboxEntry entry : entries) {
+            AiArticleRequest request = toRequest(entry);
+            if (skipUnmatched && request.candidate_stock_ids().isEmpty()) {
+                unmatched.add(entry.articleId());
+            } else {
+                requests.add(request);
+            }
+        }
+
+        Set<String> accepted;
+        try {
+            accepted = requests.isEmpty() ? Set.of() : aiArticlePublisher.publish(Flux.fromIterable(requests))
+                    .map(AiArticleRequest::external_id)
+                    .collect(Collectors.toSet())
+                    .block(lease);
+        } catch (RuntimeException e) {
+            log.error("AI outbox delivery failed: {}", e.getMessage());
+            accepted = Set.of();
+        }
+
+        Instant now = Instant.now();
+        List<Long> delivered = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (AiOutboxEntry entry : entries) {
+            if (unmatched.contains(entry.articleId())) {
+                delivered.add(entry.id());
+            } else if (accepted != null && accepted.contains(entry.articleId())) {
+                delivered.add(entry.id());
+                deliveryLag.record(Duration.between(entry.createdAt(), now));
+            } else {
+                failed.add(entry.id());
+            }
+        }
+
+        aiOutboxRepository.markDelivered(delivered);
+        int deadCount = aiOutboxRepository.markFailed(
+                failed, "Not accepted by the AI module", retryBackoff, maxRetryBackoff, maxAttempts);
+        skipped.increment(unmatched.size());
+        deadLettered.increment(deadCount);
+        if (deadCount > 0) {
+            log.warn("{} AI outbox rows failed {} times and were marked dead", deadCount, maxAttempts);
+        }
+        log.info("AI outbox batch: {} delivered ({} without stock mentions skipped), {} scheduled for retry",
+                delivered.size(), unmatched.size(), failed.size() - deadCount);
+    }
+
+    private void refreshLag() {
+        try {
+            AiOutboxLag lag = aiOutboxRepository.lag();
+            pending.set(lag.pending());
+            oldestAgeSeconds.set(lag.oldestAgeSeconds());
+            dead.set(lag.dead());
+        } catch (RuntimeException e) {
+            log.warn("Failed to read AI outbox lag: {}", e.getMessage());
+        }
+    }
+
+    private AiArticleRequest toRequest(AiOutboxEntry entry) {
+        List<String> candidates = List.copyOf(stockMentionMatcher.match(entry.title(), entry.description()));
+        return new AiArticleRequest(entry.articleId(), entry.title(), entry.description(), entry.publishedAt(), candidates);
+    }
+}
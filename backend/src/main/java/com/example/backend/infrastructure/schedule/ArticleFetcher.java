@@ -1,105 +1,77 @@
 package com.example.backend.infrastructure.schedule;
 
-import com.example.backend.domain.dto.AiArticleRequest;
 import com.example.backend.domain.dto.article.ArticleDto;
 import com.example.backend.domain.service.article.ArticleApiService;
 import com.example.backend.domain.service.article.ArticleService;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedWatermarkService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Date;
-import java.util.HashSet;
+import java.time.Duration;
 import java.util.List;
-import java.util.Set;
-
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ingests a single feed as a streaming pipeline:
+ * <ol>
+ *     <li>fetch and map - items are parsed lazily and flow on as soon as they are read,</li>
+ *     <li>dedup - items repeated within the run are dropped,</li>
+ *     <li>persist - items are stored in small batches (at most {@code persist-batch-size}
+ *     items or {@code persist-max-wait}, whichever comes first) together with their AI
+ *     outbox entries, which {@link AiOutboxRelay} hands over to the AI service.</li>
+ * </ol>
+ * Every stage only requests what the next one can take. The feed watermark is committed
+ * once the whole pipeline completed and discarded when it failed.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public abstract class ArticleFetcher {
-    private static final String SUCCESS = "Article sent successfully: {}";
-    private static final String ERROR = "Failed to send article: {}";
-    private static final String AI_URL = "http://ai:5000";
-    private static final String ARTICLES_ENDPOINT = "/articles";
-
-    private final WebClient webClient;
+public class ArticleFetcher {
     private final ArticleService articleService;
     private final ArticleApiService articleApiService;
-
-    protected void fetchArticles() {
-        log.info("Fetching articles");
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime prevDay = now.minusDays(1);
-
-        List<ArticleDto> articles = fetchAndFilterArticles(prevDay, now);
-        log.info("Fetched articles: {}", articles.size());
-        if (articles.isEmpty()) {
-            return;
-        }
-
-        List<ArticleDto> savedArticles = saveArticles(articles);
-        log.info("Saved articles: {}", savedArticles.size());
-        if (savedArticles.isEmpty()) {
-            return;
-        }
-
-        log.info("Sending articles to AI");
-        sendArticlesToAI(savedArticles);
-    }
-
-    private List<ArticleDto> fetchAndFilterArticles(LocalDateTime prevDay, LocalDateTime now) {
-        return articleApiService.fetchNewArticles().stream()
-                .filter(article -> filterDates(article, prevDay, now))
-                .toList();
-    }
-
-    private List<ArticleDto> saveArticles(List<ArticleDto> articles) {
-        Set<String> uniqueSlugs = new HashSet<>();
-        return articleService.saveAll(articles.stream()
-                .filter(article -> uniqueSlugs.add(article.getSlug()))
-                .toList());
-    }
-
-    private void sendArticlesToAI(List<ArticleDto> savedArticles) {
-        for (ArticleDto article : savedArticles) {
-            AiArticleRequest request = new AiArticleRequest(
-                    article.getExternalId(), article.getTitle(), article.getDescription(), getAiArticleDate(article)
-            );
-
-            Disposable subscribe = webClient.mutate()
-                    .baseUrl(AI_URL)
-                    .build()
-                    .post()
-                    .uri(ARTICLES_ENDPOINT)
-                    .bodyValue(request)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .doOnSuccess(response -> log.info("Successfully sent article: {}", request))
-                    .doOnError(error -> log.error("Error sending article: {}", error.getMessage()))
-                    .subscribe();
-
-            log.info("AI response for article {}: {}", request, subscribe);
-        }
+    private final FeedWatermarkService feedWatermarkService;
+
+    @Value("${article.pipeline.persist-batch-size:25}")
+    private int persistBatchSize;
+
+    @Value("${article.pipeline.persist-max-wait:2s}")
+    private Duration persistMaxWait;
+
+    @Value("${article.pipeline.timeout:5m}")
+    private Duration pipelineTimeout;
+
+    /**
+     * Runs the pipeline for one feed and waits for it to complete.
+     *
+     * @return number of new feed items found, used to learn the feed's arrival rate
+     */
+    public int fetchArticles(String source, String url) {
+        log.info("Fetching articles from {}", url);
+        AtomicInteger fetched = new AtomicInteger();
+
+        Long saved = articleApiService.streamNewArticles(source, url)
+                .doOnNext(article -> fetched.incrementAndGet())
+                .distinct(ArticleDto::getSlug)
+                .bufferTimeout(persistBatchSize, persistMaxWait, true)
+                .concatMap(this::persist)
+                .count()
+                .timeout(pipelineTimeout)
+                .doOnSuccess(ignored -> feedWatermarkService.commit(url))
+                .doOnError(error -> feedWatermarkService.discard(url))
+                .block();
+
+        log.info("Ingested {}: fetched {}, saved {}", url, fetched.get(), saved);
+        return fetched.get();
     }
 
-    private Date getAiArticleDate(ArticleDto article) {
-        return article.getPublishedAt();
-    }
-
-    private static boolean filterDates(ArticleDto article, LocalDateTime prevDay, LocalDateTime now) {
-        Date published = article.getPublishedAt();
-        if (published == null) {
-            return false;
-        }
-
-        LocalDateTime publishedAt = published.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
-
-        return publishedAt.isAfter(prevDay) && publishedAt.isBefore(now);
+    private Flux<ArticleDto> persist(List<ArticleDto> batch) {
+        return Mono.fromCallable(() -> articleService.saveAll(batch))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(saved -> saved);
     }
 }
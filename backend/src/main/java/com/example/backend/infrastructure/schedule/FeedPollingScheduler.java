@@ -0,0 +1,121 @@
+package com.example.backend.infrastructure.schedule;
+
+import com.example.backend.domain.service.external.rss_fetcher.service.RssNewsService;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedPollingState;
+import com.example.backend.domain.service.external.rss_fetcher.state.FeedStateService;
+import com.example.backend.infrastructure.config.polling.FeedPollingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Polls every configured feed on its own schedule. Each run schedules the next one only
+ * after it finished, so runs of the same feed never overlap. The interval follows the
+ * feed's smoothed item arrival rate: busy feeds are polled more often, quiet ones back off
+ * towards the maximum, and the learned state survives restarts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedPollingScheduler {
+    private static final double RATE_SMOOTHING = 0.3;
+    private static final double IDLE_BACKOFF = 1.5;
+
+    @Qualifier("feedPollingScheduler")
+    private final TaskScheduler feedPollingScheduler;
+    private final FeedPollingProperties properties;
+    private final FeedStateService feedStateService;
+    private final RssNewsService rssNewsService;
+    private final ArticleFetcher articleFetcher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (FeedPollingProperties.Feed feed : properties.getFeeds()) {
+            if (!rssNewsService.getSources().contains(feed.getSource())) {
+                log.error("Skipping feed {}: unknown source {}", feed.getUrl(), feed.getSource());
+                continue;
+            }
+
+            FeedPollingState state = feedStateService.getPollingState(feed.getUrl())
+                    .orElse(new FeedPollingState(clamp(feed, properties.getInitialInterval()), 0));
+            // Spread the first polls so that feeds of one host are not requested at once.
+            Duration delay = Duration.ofMillis(ThreadLocalRandom.current().nextLong(minInterval(feed).toMillis() + 1));
+            schedule(new PolledFeed(feed, state, null), delay);
+            log.info("Polling {} every {} (first poll in {})", feed.getUrl(), state.interval(), delay);
+        }
+    }
+
+    private void schedule(PolledFeed polled, Duration delay) {
+        feedPollingScheduler.schedule(() -> poll(polled), Instant.now().plus(delay));
+    }
+
+    private void poll(PolledFeed polled) {
+        FeedPollingProperties.Feed feed = polled.feed();
+        Instant startedAt = Instant.now();
+        FeedPollingState next = polled.state();
+        try {
+            int newItems = articleFetcher.fetchArticles(feed.getSource(), feed.getUrl());
+            // The first poll after a start catches up on an unknown period, so it is not used for learning.
+            if (polled.lastPolledAt() != null) {
+                next = adapt(feed, polled.state(), newItems, Duration.between(polled.lastPolledAt(), startedAt));
+            }
+            if (!next.interval().equals(polled.state().interval())) {
+                feedStateService.updatePollingState(feed.getUrl(), next);
+                log.info("Polling interval of {} changed to {} ({} items/h)",
+                        feed.getUrl(), next.interval(), String.format("%.1f", next.itemsPerHour()));
+            }
+        } catch (Exception e) {
+            log.error("Polling {} failed: {}", feed.getUrl(), e.getMessage(), e);
+        } finally {
+            schedule(new PolledFeed(feed, next, startedAt), next.interval());
+        }
+    }
+
+    /**
+     * Updates the smoothed arrival rate with the items found since the previous poll and
+     * derives the interval expected to find {@code targetItemsPerPoll} items. A poll without
+     * new items backs off instead, so quiet feeds drift towards the maximum interval.
+     */
+    private FeedPollingState adapt(FeedPollingProperties.Feed feed, FeedPollingState state, int newItems, Duration elapsed) {
+        double hours = Math.max(elapsed.toMillis(), 1) / 3_600_000.0;
+        double observed = newItems / hours;
+        double itemsPerHour = state.itemsPerHour() == 0
+                ? observed
+                : RATE_SMOOTHING * observed + (1 - RATE_SMOOTHING) * state.itemsPerHour();
+
+        Duration interval;
+        if (newItems == 0 || itemsPerHour == 0) {
+            interval = Duration.ofMillis((long) (state.interval().toMillis() * IDLE_BACKOFF));
+        } else {
+            interval = Duration.ofMillis((long) (properties.getTargetItemsPerPoll() / itemsPerHour * 3_600_000));
+        }
+        return new FeedPollingState(clamp(feed, interval), itemsPerHour);
+    }
+
+    private Duration clamp(FeedPollingProperties.Feed feed, Duration interval) {
+        Duration min = minInterval(feed);
+        Duration max = feed.getMaxInterval() != null ? feed.getMaxInterval() : properties.getMaxInterval();
+        if (interval.compareTo(min) < 0) {
+            return min;
+        }
+        return interval.compareTo(max) > 0 ? max : interval;
+    }
+
+    private Duration minInterval(FeedPollingProperties.Feed feed) {
+        return feed.getMinInterval() != null ? feed.getMinInterval() : properties.getMinInterval();
+    }
+
+    /**
+     * @param lastPolledAt start of the previous poll, {@code null} before the first one
+     */
+    private record PolledFeed(FeedPollingProperties.Feed feed, FeedPollingState state, Instant lastPolledAt) {
+    }
+}
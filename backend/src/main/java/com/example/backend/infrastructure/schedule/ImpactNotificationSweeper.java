@@ -0,0 +1,31 @@
+package com.example.backend.infrastructure.schedule;
+
+import com.example.backend.domain.service.impact.ImpactNotificationQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resubmits impact notification jobs that were rejected by the full queue or lost on
+ * restart, and removes finished jobs after their retention.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImpactNotificationSweeper {
+    private final ImpactNotificationQueue impactNotificationQueue;
+
+    @Scheduled(fixedDelayString = "${article.impact.notifications.sweep-interval-ms:10000}")
+    public void sweep() {
+        impactNotificationQueue.resubmitStale();
+    }
+
+    @Scheduled(cron = "${article.impact.notifications.purge-cron:0 30 * * * *}")
+    public void purge() {
+        int purged = impactNotificationQueue.purge();
+        if (purged > 0) {
+            log.info("Purged {} finished impact notification jobs", purged);
+        }
+    }
+}
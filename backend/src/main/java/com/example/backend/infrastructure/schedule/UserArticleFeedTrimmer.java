@@ -0,0 +1,27 @@
+package com.example.backend.infrastructure.schedule;
+
+import com.example.backend.infrastructure.database.repository.UserArticleFeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cuts user feeds back to {@code article.user-feed.max-articles}. Feeds only grow on
+ * impact writes and stock follows, so a periodic trim keeps them bounded without
+ * slowing those writes down.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserArticleFeedTrimmer {
+    private final UserArticleFeedRepository userArticleFeedRepository;
+
+    @Scheduled(cron = "${article.user-feed.trim-cron:0 15 * * * *}")
+    public void trim() {
+        int trimmed = userArticleFeedRepository.trim();
+        if (trimmed > 0) {
+            log.info("Trimmed {} entries from user article feeds", trimmed);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+CREATE TABLE rss_feed_states
+(
+    url           VARCHAR(512) NOT NULL,
+    etag          VARCHAR(255),
+    last_modified VARCHAR(255),
+    updated_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_rss_feed_states PRIMARY KEY (url)
+);
@@ -0,0 +1,3 @@
+ALTER TABLE rss_feed_states
+    ADD COLUMN last_item_key     VARCHAR(512),
+    ADD COLUMN last_published_at TIMESTAMP;
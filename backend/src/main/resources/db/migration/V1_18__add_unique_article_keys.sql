@@ -0,0 +1,32 @@
+-- ON CONFLICT DO NOTHING in bulk article inserts relies on these indexes, so they are always
+-- created. Legacy rows may contain duplicates, which are resolved first.
+
+-- Articles sharing a title are merged into the oldest one; their impacts are moved over.
+CREATE TEMPORARY TABLE duplicate_articles ON COMMIT DROP AS
+SELECT id, keeper_id
+FROM (SELECT id,
+             first_value(id) OVER (PARTITION BY title ORDER BY published_at, id) AS keeper_id
+      FROM articles) ranked
+WHERE id <> keeper_id;
+
+UPDATE article_stock_impacts i
+SET article_id = d.keeper_id
+FROM duplicate_articles d
+WHERE i.article_id = d.id;
+
+DELETE
+FROM articles a
+    USING duplicate_articles d
+WHERE a.id = d.id;
+
+-- Remaining slug duplicates (e.g. the '' default of slug) get a suffix derived from the id;
+-- the first article of every slug keeps it unchanged.
+UPDATE articles a
+SET slug = left(ranked.slug, 246) || '-' || left(md5(a.id), 8)
+FROM (SELECT id, slug, row_number() OVER (PARTITION BY slug ORDER BY published_at, id) AS position
+      FROM articles) ranked
+WHERE a.id = ranked.id
+  AND ranked.position > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_articles_slug ON articles (slug);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_articles_title ON articles (title);
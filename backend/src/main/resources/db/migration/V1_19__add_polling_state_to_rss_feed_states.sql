@@ -0,0 +1,3 @@
+ALTER TABLE rss_feed_states
+    ADD COLUMN poll_interval_ms BIGINT,
+    ADD COLUMN items_per_hour   DOUBLE PRECISION;
@@ -0,0 +1,15 @@
+CREATE TABLE ai_outbox
+(
+    id              BIGSERIAL    NOT NULL,
+    article_id      VARCHAR(255) NOT NULL,
+    created_at      TIMESTAMP    NOT NULL DEFAULT now(),
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT now(),
+    delivered_at    TIMESTAMP,
+    last_error      TEXT,
+    CONSTRAINT pk_ai_outbox PRIMARY KEY (id),
+    CONSTRAINT uq_ai_outbox_article UNIQUE (article_id),
+    CONSTRAINT fk_ai_outbox_article FOREIGN KEY (article_id) REFERENCES articles (id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_ai_outbox_pending ON ai_outbox (next_attempt_at, id) WHERE delivered_at IS NULL;
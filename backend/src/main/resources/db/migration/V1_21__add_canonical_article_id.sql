@@ -0,0 +1,10 @@
+-- No foreign key: a batch may link to a canonical article from the same insert that ends up
+-- skipped on conflict. ArticleServiceImpl moves such links to the conflicting row (or clears
+-- them) in the same transaction, because a dangling link would leave the article without
+-- impacts and out of the AI outbox.
+ALTER TABLE articles
+    ADD COLUMN IF NOT EXISTS canonical_article_id VARCHAR(255);
+
+CREATE INDEX IF NOT EXISTS ix_articles_canonical_article_id
+    ON articles (canonical_article_id)
+    WHERE canonical_article_id IS NOT NULL;
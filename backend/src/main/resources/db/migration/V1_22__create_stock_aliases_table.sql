@@ -0,0 +1,39 @@
+CREATE TABLE IF NOT EXISTS stock_aliases
+(
+    id       BIGSERIAL    NOT NULL,
+    stock_id VARCHAR(255) NOT NULL,
+    alias    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_stock_aliases PRIMARY KEY (id),
+    CONSTRAINT uc_stock_aliases_stock_alias UNIQUE (stock_id, alias),
+    CONSTRAINT fk_stock_aliases_stock FOREIGN KEY (stock_id) REFERENCES stocks (id) ON DELETE CASCADE
+);
+
+-- Names the press uses instead of the registered company name
+INSERT INTO stock_aliases (stock_id, alias)
+SELECT s.id, a.alias
+FROM (VALUES ('KGH', 'KGHM'),
+             ('PKN', 'Orlen'),
+             ('PKN', 'PKN Orlen'),
+             ('PKO', 'PKO BP'),
+             ('PEO', 'Pekao'),
+             ('CDR', 'CD Projekt'),
+             ('ALE', 'Allegro'),
+             ('DNP', 'Dino'),
+             ('MBK', 'mBank'),
+             ('SPL', 'Santander Bank Polska'),
+             ('OPL', 'Orange Polska'),
+             ('CPS', 'Cyfrowy Polsat'),
+             ('JSW', 'Jastrzębska Spółka Węglowa'),
+             ('TPE', 'Tauron'),
+             ('ENA', 'Enea'),
+             ('BDX', 'Budimex'),
+             ('KTY', 'Grupa Kęty'),
+             ('ALR', 'Alior'),
+             ('PCO', 'Pepco'),
+             ('KRU', 'Kruk'),
+             ('ACP', 'Asseco'),
+             ('MIL', 'Bank Millennium'),
+             ('BHW', 'Citi Handlowy'),
+             ('11B', '11 bit')) AS a (symbol, alias)
+         JOIN stocks s ON s.symbol = a.symbol
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,15 @@
+CREATE TABLE impact_notification_jobs
+(
+    id           VARCHAR(36) NOT NULL,
+    status       VARCHAR(16) NOT NULL,
+    impact_ids   VARCHAR[]   NOT NULL,
+    notified     INT,
+    error        TEXT,
+    created_at   TIMESTAMP   NOT NULL DEFAULT now(),
+    started_at   TIMESTAMP,
+    completed_at TIMESTAMP,
+    CONSTRAINT pk_impact_notification_jobs PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_impact_notification_jobs_unfinished ON impact_notification_jobs (created_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
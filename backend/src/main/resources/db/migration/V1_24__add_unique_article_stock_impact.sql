@@ -0,0 +1,12 @@
+-- Keep one impact per article and stock: the most severe one, ties broken by id. NULL or
+-- unknown impacts rank below 'none', so every duplicate gets an order and is removed.
+DELETE
+FROM article_stock_impacts i
+    USING article_stock_impacts other
+WHERE i.article_id = other.article_id
+  AND i.stock_id = other.stock_id
+  AND (coalesce(array_position(ARRAY ['none', 'low', 'medium', 'high', 'severe'], i.impact), 0),
+       i.id) < (coalesce(array_position(ARRAY ['none', 'low', 'medium', 'high', 'severe'], other.impact), 0), other.id);
+
+ALTER TABLE article_stock_impacts
+    ADD CONSTRAINT uq_article_stock_impacts_article_stock UNIQUE (article_id, stock_id);
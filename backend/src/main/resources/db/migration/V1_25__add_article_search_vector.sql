@@ -0,0 +1,27 @@
+-- The stock postgres image ships no Polish snowball stemmer (only an ispell template that
+-- needs external dictionary files), so the configuration folds accents and lower-cases
+-- words; inflected forms are matched with prefix queries built by ArticleSearchQuery.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO
+$$
+    BEGIN
+        IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'polish_unaccent') THEN
+            CREATE TEXT SEARCH CONFIGURATION polish_unaccent (COPY = simple);
+            ALTER TEXT SEARCH CONFIGURATION polish_unaccent
+                ALTER MAPPING FOR word, hword, hword_part, asciiword, asciihword, hword_asciipart
+                    WITH unaccent, simple;
+        END IF;
+    END
+$$;
+
+-- A stored generated column is computed for every existing row while the table is rewritten,
+-- which backfills it in the same migration.
+ALTER TABLE articles
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('polish_unaccent'::regconfig, coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('polish_unaccent'::regconfig, coalesce(description, '')), 'B')
+            ) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_articles_search_vector ON articles USING GIN (search_vector);
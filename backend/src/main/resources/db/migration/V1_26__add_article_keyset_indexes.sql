@@ -0,0 +1,5 @@
+-- Article listings are paged by (published_at, id) instead of OFFSET, so every page is a
+-- short range scan from the cursor.
+CREATE INDEX IF NOT EXISTS ix_articles_published_at_id ON articles (published_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_article_stock_impacts_stock_id ON article_stock_impacts (stock_id);
@@ -0,0 +1,27 @@
+-- Articles related to the stocks a user follows, written when impacts are stored so that
+-- reading a feed is a range scan over the primary key.
+CREATE TABLE IF NOT EXISTS user_article_feed
+(
+    user_id      VARCHAR(255) NOT NULL,
+    published_at TIMESTAMP    NOT NULL,
+    article_id   VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_user_article_feed PRIMARY KEY (user_id, published_at, article_id),
+    CONSTRAINT fk_user_article_feed_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_user_article_feed_article FOREIGN KEY (article_id) REFERENCES articles (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS ix_user_article_feed_article_id ON user_article_feed (article_id);
+
+CREATE INDEX IF NOT EXISTS ix_user_stocks_stock_id ON user_stocks (stock_id);
+
+-- Backfill with the newest 1000 articles per user (article.user-feed.max-articles).
+INSERT INTO user_article_feed (user_id, published_at, article_id)
+SELECT user_id, published_at, article_id
+FROM (SELECT feed.*,
+             row_number() OVER (PARTITION BY feed.user_id ORDER BY feed.published_at DESC, feed.article_id DESC) AS position
+      FROM (SELECT DISTINCT us.user_id, a.published_at, a.id AS article_id
+            FROM user_stocks us
+                     JOIN article_stock_impacts i ON i.stock_id = us.stock_id
+                     JOIN articles a ON a.id = i.article_id) feed) ranked
+WHERE position <= 1000
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,6 @@
+-- Rows that failed article.ai.outbox.max-attempts times are parked instead of being retried forever.
+ALTER TABLE ai_outbox
+    ADD COLUMN IF NOT EXISTS dead_at TIMESTAMP;
+
+DROP INDEX IF EXISTS ix_ai_outbox_pending;
+CREATE INDEX ix_ai_outbox_pending ON ai_outbox (next_attempt_at, id) WHERE delivered_at IS NULL AND dead_at IS NULL;
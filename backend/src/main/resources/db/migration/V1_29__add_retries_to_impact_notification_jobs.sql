@@ -0,0 +1,6 @@
+-- Failed jobs are retried with backoff up to article.impact.notifications.max-attempts times.
+-- Impacts whose pushes were sent are recorded, so a retried or requeued job skips them.
+ALTER TABLE impact_notification_jobs
+    ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS notified_impact_ids VARCHAR[] NOT NULL DEFAULT '{}';
@@ -0,0 +1,158 @@
+package com.example.backend.domain.service.article.dedup;
+
+import com.example.backend.domain.service.article.slug.SlugGenerator;
+import com.example.backend.infrastructure.database.entity.ArticleEntity;
+import com.example.backend.infrastructure.database.projection.ArticleKeyView;
+import com.example.backend.infrastructure.database.repository.ArticleJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleDedupIndexTest {
+    private static final String EXISTING_TITLE = "Wyniki Orlenu";
+    private static final String EXISTING_SLUG = "wyniki-orlenu";
+
+    private ArticleJpaRepository repository;
+    private ArticleDedupIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ArticleJpaRepository.class);
+        when(repository.findKeysAfter(anyString(), any())).thenReturn(List.of(key("1", EXISTING_SLUG, EXISTING_TITLE)));
+        when(repository.findExistingTitles(any())).thenReturn(List.of());
+        when(repository.findExistingSlugs(any())).thenReturn(List.of());
+
+        index = new ArticleDedupIndex(repository);
+        ReflectionTestUtils.setField(index, "expectedArticles", 1000L);
+        ReflectionTestUtils.setField(index, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(index, "recentSize", 100);
+        index.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void keepsNewTitlesWithoutQuerying() {
+        List<ArticleEntity> fresh = index.filterNew(List.of(article("Orlen buduje farmę wiatrową")));
+
+        assertEquals(1, fresh.size());
+        verify(repository, never()).findExistingTitles(any());
+    }
+
+    @Test
+    void confirmsPossibleTitlesAgainstTheDatabase() {
+        when(repository.findExistingTitles(Set.of(EXISTING_TITLE))).thenReturn(List.of(EXISTING_TITLE));
+        assertEquals(List.of(), index.filterNew(List.of(article(EXISTING_TITLE))));
+
+        // The filter still says "maybe", but the row is gone: a false positive must not drop the article.
+        when(repository.findExistingTitles(Set.of(EXISTING_TITLE))).thenReturn(List.of());
+        assertEquals(1, index.filterNew(List.of(article(EXISTING_TITLE))).size());
+    }
+
+    @Test
+    void dropsTitlesRepeatedWithinTheBatch() {
+        List<ArticleEntity> fresh = index.filterNew(List.of(article("Kurs złotego"), article("Kurs złotego")));
+
+        assertEquals(1, fresh.size());
+    }
+
+    @Test
+    void suffixesTakenSlugs() {
+        when(repository.findExistingSlugs(any())).thenAnswer(invocation -> taken(invocation.getArgument(0), EXISTING_SLUG));
+        ArticleEntity candidate = article("Wyniki Orlenu!");
+
+        index.filterNew(List.of(candidate));
+
+        assertEquals(SlugGenerator.createCollisionSlug(EXISTING_SLUG, "Wyniki Orlenu!", 0), candidate.getSlug());
+    }
+
+    @Test
+    void numbersSuffixesWhenTheFirstAlternativeIsTaken() {
+        String firstAlternative = SlugGenerator.createCollisionSlug(EXISTING_SLUG, "Wyniki Orlenu!", 0);
+        index.registerAfterCommit(List.of(ArticleEntity.builder().id("2").title("Inne wyniki").slug(firstAlternative).build()));
+        when(repository.findExistingSlugs(any()))
+                .thenAnswer(invocation -> taken(invocation.getArgument(0), EXISTING_SLUG, firstAlternative));
+        ArticleEntity candidate = article("Wyniki Orlenu!");
+
+        index.filterNew(List.of(candidate));
+
+        assertEquals(firstAlternative + "-2", candidate.getSlug());
+        assertEquals(SlugGenerator.createCollisionSlug(EXISTING_SLUG, "Wyniki Orlenu!", 1), candidate.getSlug());
+    }
+
+    @Test
+    void suffixesSlugsRepeatedWithinTheBatch() {
+        ArticleEntity first = article("Kurs złotego");
+        ArticleEntity second = article("Kurs złotego?");
+
+        index.filterNew(List.of(first, second));
+
+        assertEquals("kurs-zlotego", first.getSlug());
+        assertTrue(second.getSlug().startsWith("kurs-zlotego-"), second.getSlug());
+    }
+
+    @Test
+    void registersArticlesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.registerAfterCommit(List.of(article("Nowy rekord WIG20")));
+
+        assertEquals(1, index.filterNew(List.of(article("Nowy rekord WIG20"))).size());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(List.of(), index.filterNew(List.of(article("Nowy rekord WIG20"))));
+        verify(repository, never()).findExistingTitles(Set.of("Nowy rekord WIG20"));
+    }
+
+    private static List<String> taken(Collection<String> slugs, String... existing) {
+        return slugs.stream().filter(Set.of(existing)::contains).toList();
+    }
+
+    private static ArticleEntity article(String title) {
+        return ArticleEntity.builder()
+                .title(title)
+                .slug(SlugGenerator.createSlugFromTitle(title))
+                .build();
+    }
+
+    private static ArticleKeyView key(String id, String slug, String title) {
+        return new ArticleKeyView() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.domain.service.article.dedup;
+
+import com.example.backend.infrastructure.database.entity.ArticleEntity;
+import com.example.backend.infrastructure.database.repository.ArticleJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+class NearDuplicateIndexTest {
+    private static final String KGHM_TITLE = "KGHM zwiększył zysk netto w trzecim kwartale";
+    private static final String KGHM_DESCRIPTION = "Miedziowy koncern KGHM Polska Miedź zwiększył zysk netto w trzecim kwartale do 1,2 mld zł, podała spółka w raporcie kwartalnym.";
+    private static final String KGHM_REWORDED_TITLE = "Zysk netto KGHM w III kwartale wzrósł";
+    private static final String KGHM_REWORDED_DESCRIPTION = "KGHM Polska Miedź zwiększył w trzecim kwartale zysk netto do 1,2 mld zł - podała spółka w raporcie kwartalnym.";
+
+    private NearDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NearDuplicateIndex(mock(ArticleJpaRepository.class));
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "similarityThreshold", 0.5);
+        ReflectionTestUtils.setField(index, "bands", 20);
+        ReflectionTestUtils.setField(index, "rows", 3);
+        ReflectionTestUtils.setField(index, "descriptionLength", 280);
+        ReflectionTestUtils.setField(index, "window", Duration.ofHours(48));
+        ReflectionTestUtils.setField(index, "maxEntries", 50_000);
+    }
+
+    @Test
+    void linksRepeatWithinTheSameBatch() {
+        ArticleEntity first = article("a", KGHM_TITLE, KGHM_DESCRIPTION);
+        ArticleEntity repeat = article("b", KGHM_REWORDED_TITLE, KGHM_REWORDED_DESCRIPTION);
+
+        index.assignCanonicals(List.of(first, repeat));
+
+        assertNull(first.getCanonicalArticleId());
+        assertEquals("a", repeat.getCanonicalArticleId());
+    }
+
+    @Test
+    void linksRepeatOfRegisteredArticle() {
+        ArticleEntity first = article("a", KGHM_TITLE, KGHM_DESCRIPTION);
+        index.assignCanonicals(List.of(first));
+        index.registerOnCommit(List.of(first));
+
+        ArticleEntity repeat = article("b", KGHM_REWORDED_TITLE, KGHM_REWORDED_DESCRIPTION);
+        index.assignCanonicals(List.of(repeat));
+
+        assertEquals("a", repeat.getCanonicalArticleId());
+    }
+
+    @Test
+    void doesNotLinkOtherStories() {
+        ArticleEntity kghm = article("a", KGHM_TITLE, KGHM_DESCRIPTION);
+        ArticleEntity orlen = article("b", "Orlen otwiera nowe stacje ładowania w Niemczech",
+                "Orlen uruchomił kolejne stacje ładowania samochodów elektrycznych na terenie Niemiec, poinformował koncern.");
+
+        index.assignCanonicals(List.of(kghm, orlen));
+
+        assertNull(orlen.getCanonicalArticleId());
+    }
+
+    @Test
+    void doesNotLinkTemplatedStoriesWithDifferentNumbers() {
+        ArticleEntity pko = article("a", "PKO BP zarobił 2 mld zł w kwartale",
+                "Bank PKO BP zarobił w kwartale 2 mld zł netto, podał bank w komunikacie.");
+        ArticleEntity pekao = article("b", "Pekao zarobił 1 mld zł w kwartale",
+                "Bank Pekao zarobił w kwartale 1 mld zł netto, podał bank w komunikacie.");
+
+        index.assignCanonicals(List.of(pko, pekao));
+
+        assertNull(pekao.getCanonicalArticleId());
+    }
+
+    @Test
+    void doesNotLinkToDuplicates() {
+        ArticleEntity first = article("a", KGHM_TITLE, KGHM_DESCRIPTION);
+        ArticleEntity repeat = article("b", KGHM_REWORDED_TITLE, KGHM_REWORDED_DESCRIPTION);
+        index.assignCanonicals(List.of(first, repeat));
+        index.registerOnCommit(List.of(first, repeat));
+
+        ArticleEntity another = article("c", KGHM_REWORDED_TITLE + "!", KGHM_REWORDED_DESCRIPTION);
+        index.assignCanonicals(List.of(another));
+
+        assertEquals("a", another.getCanonicalArticleId());
+    }
+
+    private static ArticleEntity article(String id, String title, String description) {
+        return ArticleEntity.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .publishedAt(new Date())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.backend.domain.service.article.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearDuplicateSignatureTest {
+    private static final int BANDS = 20;
+    private static final int ROWS = 3;
+
+    @Test
+    void rewordedStoryIsSimilar() {
+        NearDuplicateSignature first = signature("KGHM zwiększył zysk netto w trzecim kwartale",
+                "Miedziowy koncern KGHM Polska Miedź zwiększył zysk netto w trzecim kwartale do 1,2 mld zł, podała spółka w raporcie kwartalnym.");
+        NearDuplicateSignature second = signature("Zysk netto KGHM w III kwartale wzrósł",
+                "KGHM Polska Miedź zwiększył w trzecim kwartale zysk netto do 1,2 mld zł - podała spółka w raporcie kwartalnym.");
+        NearDuplicateSignature other = signature("Orlen otwiera nowe stacje ładowania w Niemczech",
+                "Orlen uruchomił kolejne stacje ładowania samochodów elektrycznych na terenie Niemiec, poinformował koncern.");
+
+        assertTrue(first.similarity(second) > 0.8);
+        assertTrue(first.numbersMatch(second));
+        assertTrue(first.similarity(other) < 0.1);
+    }
+
+    @Test
+    void templatedStoriesWithDifferentNumbersDoNotMatch() {
+        NearDuplicateSignature pko = signature("PKO BP zarobił 2 mld zł w kwartale",
+                "Bank PKO BP zarobił w kwartale 2 mld zł netto, podał bank w komunikacie.");
+        NearDuplicateSignature pekao = signature("Pekao zarobił 1 mld zł w kwartale",
+                "Bank Pekao zarobił w kwartale 1 mld zł netto, podał bank w komunikacie.");
+
+        assertTrue(pko.similarity(pekao) > 0.5);
+        assertFalse(pko.numbersMatch(pekao));
+    }
+
+    @Test
+    void equalTextsShareEveryBand() {
+        long[] first = signature("Kurs złotego", "Złoty umacnia się wobec euro.").bandKeys(BANDS);
+        long[] second = signature("KURS ZŁOTEGO!", "Zloty umacnia sie wobec euro").bandKeys(BANDS);
+
+        assertEquals(BANDS, first.length);
+        assertArrayEquals(first, second);
+    }
+
+    /**
+     * With 20 bands of 3 rows a pair shares at least one band with probability
+     * {@code 1 - (1 - s^3)^20}: 0.93 at the 0.5 similarity threshold, 0.15 at 0.2.
+     */
+    @Test
+    void bandsFindPairsAtTheThresholdAndRarelyBelowIt() {
+        assertEquals(0.93, candidateRate(10), 0.05);
+        assertEquals(0.15, candidateRate(20), 0.06);
+    }
+
+    /**
+     * Share of 500 pairs of 30-word texts, offset by {@code offset} words, that land in a common bucket.
+     */
+    private static double candidateRate(int offset) {
+        int candidates = 0;
+        for (int trial = 0; trial < 500; trial++) {
+            long[] first = NearDuplicateSignature.of("", words(trial, 0), 10_000, BANDS * ROWS).bandKeys(BANDS);
+            long[] second = NearDuplicateSignature.of("", words(trial, offset), 10_000, BANDS * ROWS).bandKeys(BANDS);
+            for (int band = 0; band < BANDS; band++) {
+                if (first[band] == second[band]) {
+                    candidates++;
+                    break;
+                }
+            }
+        }
+        return candidates / 500.0;
+    }
+
+    private static String words(int trial, int from) {
+        StringBuilder words = new StringBuilder();
+        for (int i = from; i < from + 30; i++) {
+            words.append(100_000 + trial * 1000 + i).append(' ');
+        }
+        return words.toString();
+    }
+
+    private static NearDuplicateSignature signature(String title, String description) {
+        return NearDuplicateSignature.of(title, description, 280, BANDS * ROWS);
+    }
+}
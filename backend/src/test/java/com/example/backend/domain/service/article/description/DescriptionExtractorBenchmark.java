@@ -0,0 +1,60 @@
+package com.example.backend.domain.service.article.description;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the single-pass extractor with the previous approach of two Jsoup parses per
+ * item (text and image). Excluded from {@code test}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class DescriptionExtractorBenchmark {
+    private static final int WARMUP_ITERATIONS = 100_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private static final String DESCRIPTION = "<img src=\"https://www.bankier.pl/static/att/emitents/2025/03/kghm.jpg\" "
+            + "alt=\"KGHM\" /><br/><p>Zarząd <b>KGHM Polska Miedź</b> przedstawił wyniki za IV kwartał. "
+            + "Zysk netto wyniósł 1,2 mld zł, a przychody wzrosły o 8&nbsp;% r/r.</p>"
+            + "<p>Analitycy oczekiwali słabszego wyniku &ndash; kurs spółki rośnie o 3&nbsp;% "
+            + "na otwarciu sesji na <a href=\"https://www.bankier.pl/gielda\">GPW</a>.</p>";
+
+    private static volatile Object sink;
+
+    @Test
+    void jsoupTwoParses() {
+        report("jsoup (2 parses)", () -> {
+            String text = Jsoup.parse(DESCRIPTION).text();
+            String image = Jsoup.parse(DESCRIPTION).select("img").attr("src");
+            sink = text + image;
+        });
+    }
+
+    @Test
+    void jsoupSingleParse() {
+        report("jsoup (1 parse)", () -> {
+            Document document = Jsoup.parse(DESCRIPTION);
+            sink = document.text() + document.select("img").attr("src");
+        });
+    }
+
+    @Test
+    void singlePassExtractor() {
+        report("DescriptionExtractor", () -> sink = DescriptionExtractor.extract(DESCRIPTION));
+    }
+
+    private static void report(String name, Runnable task) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-22s %8.2f us/item%n", name, elapsed / 1_000.0 / MEASURED_ITERATIONS);
+    }
+}
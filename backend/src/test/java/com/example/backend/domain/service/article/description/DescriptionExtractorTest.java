@@ -0,0 +1,60 @@
+package com.example.backend.domain.service.article.description;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DescriptionExtractorTest {
+
+    static Stream<String> descriptions() {
+        return Stream.of(
+                "Zwykły tekst bez znaczników",
+                "<p>Spółka <b>KGHM</b> podała wyniki.</p><p>Zysk wzrósł o 12%.</p>",
+                "<img src=\"https://www.bankier.pl/img/a.jpg\" alt=\"x\" /><br/>Kurs &amp; notowania &quot;WIG20&quot;",
+                "<div><img src='https://img.example.com/a.png?w=1&amp;h=2'>Pierwszy</div><div>Drugi<br>trzeci</div>",
+                "  Tekst\n\t z   białymi \n znakami&nbsp;i&nbsp;spacją  ",
+                "<ul><li>jeden</li><li>dwa</li></ul>koniec",
+                "a < b oraz c > d, <!-- komentarz --> dalej",
+                "<script>var x = '<p>nie</p>';</script><style>p { color: red; }</style>Widoczny tekst",
+                "<a href=\"/x\">link</a>owany <span>tekst</span> &#261;&#x0119; &euro;",
+                "<p>Bez zamknięcia <b>pogrubienia"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("descriptions")
+    void extractsSameTextAsJsoup(String html) {
+        assertEquals(Jsoup.parse(html).text(), DescriptionExtractor.extract(html).text());
+    }
+
+    @ParameterizedTest
+    @MethodSource("descriptions")
+    void extractsSameImageAsJsoup(String html) {
+        assertEquals(Jsoup.parse(html).select("img").attr("src"), DescriptionExtractor.extract(html).imageUrl());
+    }
+
+    @Test
+    void capsSummaryAtWordBoundary() {
+        String text = "słowo ".repeat(100).strip();
+
+        String summary = DescriptionExtractor.summarize(text, 40);
+
+        assertTrue(summary.length() <= 41);
+        assertTrue(summary.endsWith("słowo\u2026"));
+    }
+
+    @Test
+    void returnsEmptyValuesForMissingDescription() {
+        DescriptionExtractor.ExtractedDescription extracted = DescriptionExtractor.extract(null);
+
+        assertEquals("", extracted.text());
+        assertEquals("", extracted.imageUrl());
+        assertEquals("", extracted.summary());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.domain.service.article.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ArticleSearchQueryTest {
+
+    @Test
+    void prefixesEveryTermAndFoldsPolishLetters() {
+        assertEquals("orl:* & spolk:*", ArticleSearchQuery.toTsQuery("Orl spółki", null));
+    }
+
+    @Test
+    void stripsInflectionFromLongerWords() {
+        assertEquals("akcj:* & akcj:* & wzros:* & bank:*", ArticleSearchQuery.toTsQuery("akcji akcje wzrosty banku", null));
+        assertEquals("2024:*", ArticleSearchQuery.toTsQuery("2024", null));
+    }
+
+    @Test
+    void restrictsTitleTermsToTitleWeight() {
+        assertEquals("kurs:* & orlen:*A", ArticleSearchQuery.toTsQuery("kurs", "Orlenu"));
+    }
+
+    @Test
+    void dropsOperatorsFromInput() {
+        assertEquals("pko:* & bp:*", ArticleSearchQuery.toTsQuery("PKO & !BP:*", null));
+        assertNull(ArticleSearchQuery.toTsQuery(" ()|&! ", ""));
+        assertNull(ArticleSearchQuery.toTsQuery(null, null));
+    }
+}
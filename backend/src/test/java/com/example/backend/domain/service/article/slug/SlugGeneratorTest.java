@@ -0,0 +1,77 @@
+package com.example.backend.domain.service.article.slug;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlugGeneratorTest {
+
+    @Test
+    void transliteratesPolishTitlesLikeTheRegexImplementation() {
+        List<String> titles = List.of(
+                "Zażółć gęślą jaźń",
+                "ZAŻÓŁĆ GĘŚLĄ JAŹŃ",
+                "Łódź: KGHM Polska Miedź zwiększa wydobycie o 5%",
+                "  Orlen -- przejęcie Lotosu?! ",
+                "Kurs EUR/PLN spada – złoty najmocniejszy od 2021 r.",
+                "Ćwierć wieku GPW; „Śnieżka” i Żabka w WIG20"
+        );
+        for (String title : titles) {
+            assertEquals(legacySlug(title), SlugGenerator.createSlugFromTitle(title), title);
+        }
+        assertEquals("zazolc-gesla-jazn", SlugGenerator.createSlugFromTitle("Zażółć gęślą jaźń"));
+    }
+
+    @Test
+    void transliteratesCharactersOutsideLatinExtended() {
+        assertEquals("hai-phong", SlugGenerator.createSlugFromTitle("Hải Phòng"));
+        assertEquals("strasse", SlugGenerator.createSlugFromTitle("STRAẞE"));
+        assertEquals("strasse", SlugGenerator.createSlugFromTitle("straße"));
+        assertEquals("ceny-w", SlugGenerator.createSlugFromTitle("Ceny w €"));
+        assertEquals("indeks-wig", SlugGenerator.createSlugFromTitle("Индекс indeks WIG"));
+    }
+
+    @Test
+    void separatesWordsAtTypographicPunctuation() {
+        assertEquals("orlen-kupuje-lotos-co-dalej",
+                SlugGenerator.createSlugFromTitle("Orlen kupuje „Lotos” – co dalej…"));
+        assertEquals("kurs-euro-spada-4-30-zl", SlugGenerator.createSlugFromTitle("Kurs euro (€) spada — 4,30 zł‰"));
+        assertEquals("dywidenda-pzu-2024", SlugGenerator.createSlugFromTitle("“Dywidenda” PZU ‐ ‘2024’"));
+    }
+
+    @Test
+    void createsDeterministicCollisionSuffixes() {
+        String first = SlugGenerator.createCollisionSlug("wyniki-orlenu", "Wyniki Orlenu", 0);
+        String second = SlugGenerator.createCollisionSlug("wyniki-orlenu", "Wyniki Orlenu", 1);
+
+        assertEquals(first, SlugGenerator.createCollisionSlug("wyniki-orlenu", "Wyniki Orlenu", 0));
+        assertTrue(first.startsWith("wyniki-orlenu-"));
+        assertEquals(first + "-2", second);
+        assertNotEquals(first, SlugGenerator.createCollisionSlug("wyniki-orlenu", "Wyniki Orlenu!", 0));
+        assertEquals(first.substring("wyniki-orlenu-".length()),
+                SlugGenerator.createCollisionSlug("", "Wyniki Orlenu", 0));
+    }
+
+    @Test
+    void createsRandomSlugsAsLastResort() {
+        String random = SlugGenerator.createRandomSlug("wyniki-orlenu");
+
+        assertTrue(random.matches("wyniki-orlenu-[0-9a-z]+"), random);
+        assertNotEquals(random, SlugGenerator.createRandomSlug("wyniki-orlenu"));
+    }
+
+    /**
+     * The implementation SlugGenerator replaced.
+     */
+    private static String legacySlug(String title) {
+        String normalized = Normalizer.normalize(title, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        normalized = normalized.replace('Ł', 'L').replace('ł', 'l');
+        return normalized.toLowerCase(Locale.ENGLISH).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+    }
+}
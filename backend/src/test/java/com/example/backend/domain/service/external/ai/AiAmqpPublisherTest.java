@@ -0,0 +1,105 @@
+package com.example.backend.domain.service.external.ai;
+
+import com.example.backend.domain.dto.AiArticleRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs the publisher against a stubbed {@link RabbitTemplate} that settles publisher
+ * confirms in memory, so no broker is needed.
+ */
+class AiAmqpPublisherTest {
+
+    private RabbitTemplate rabbitTemplate;
+    private AiAmqpPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        publisher = new AiAmqpPublisher(rabbitTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(publisher, "articleQueue", "ingest_article");
+        ReflectionTestUtils.setField(publisher, "articleActor", "ingest_article");
+        ReflectionTestUtils.setField(publisher, "batchSize", 2);
+        ReflectionTestUtils.setField(publisher, "confirmTimeout", Duration.ofMillis(200));
+    }
+
+    @Test
+    void returnsOnlyArticlesAckedAndRouted() {
+        onPublish(correlation -> {
+            switch (correlation.getId()) {
+                case "acked" -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+                case "nacked" -> correlation.getFuture().complete(new CorrelationData.Confirm(false, "overflow"));
+                case "returned" -> {
+                    correlation.setReturned(new ReturnedMessage(
+                            new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", "", "ingest_article"));
+                    correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+                }
+                default -> {
+                    // never confirmed
+                }
+            }
+        });
+
+        List<String> accepted = publisher.publish(Flux.just(article("acked"), article("nacked"), article("returned"), article("lost")))
+                .map(AiArticleRequest::external_id)
+                .collectList()
+                .block();
+
+        assertEquals(List.of("acked"), accepted);
+    }
+
+    @Test
+    void wrapsArticleInDramatiqEnvelope() {
+        onPublish(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+
+        publisher.publishBatch(List.of(article("a1")));
+
+        verify(rabbitTemplate).convertAndSend(eq(""), eq("ingest_article"), (Object) argThat(message -> {
+            Map<?, ?> envelope = (Map<?, ?>) message;
+            return "ingest_article".equals(envelope.get("actor_name")) && ((List<?>) envelope.get("args")).size() == 1;
+        }), any(CorrelationData.class));
+    }
+
+    @Test
+    void treatsBrokerFailureAsNotPublished() {
+        doThrow(new AmqpConnectException(new RuntimeException("connection refused")))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        assertEquals(List.of(), publisher.publishBatch(List.of(article("a1"), article("a2"))));
+    }
+
+    private void onPublish(Consumer<CorrelationData> broker) {
+        doAnswer(invocation -> {
+            broker.accept(invocation.getArgument(3));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    private static AiArticleRequest article(String id) {
+        return new AiArticleRequest(id, "Title " + id, "Description", null, List.of());
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.backend.domain.service.impact;
+
+import com.example.backend.infrastructure.database.entity.ArticleStockImpactEntity;
+import com.example.backend.infrastructure.database.entity.ImpactNotificationJobEntity;
+import com.example.backend.infrastructure.database.entity.enums.ImpactNotificationJobStatus;
+import com.example.backend.infrastructure.database.repository.ArticleStockImpactJpaRepository;
+import com.example.backend.infrastructure.database.repository.ImpactNotificationJobJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ObjIntConsumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs jobs submitted by {@link ImpactNotificationQueue#resubmitStale()} against mocked
+ * repositories and notifier.
+ */
+class ImpactNotificationQueueTest {
+    private static final String JOB_ID = "job";
+
+    private ImpactNotificationJobJpaRepository jobRepository;
+    private ArticleStockImpactJpaRepository impactRepository;
+    private ImpactNotifier impactNotifier;
+    private ImpactNotificationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(ImpactNotificationJobJpaRepository.class);
+        impactRepository = mock(ArticleStockImpactJpaRepository.class);
+        impactNotifier = mock(ImpactNotifier.class);
+        queue = new ImpactNotificationQueue(jobRepository, impactRepository, impactNotifier, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(queue, "poolSize", 1);
+        ReflectionTestUtils.setField(queue, "queueCapacity", 10);
+        ReflectionTestUtils.setField(queue, "resubmitAfter", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(queue, "lease", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(queue, "maxAttempts", 3);
+        ReflectionTestUtils.setField(queue, "retryBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(queue, "maxRetryBackoff", Duration.ofMinutes(30));
+        queue.init();
+
+        when(jobRepository.findDueIds(any(), any(), any(), any())).thenReturn(List.of(JOB_ID));
+        when(jobRepository.start(eq(JOB_ID), any(), any(), any())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void skipsImpactsAlreadyNotifiedAndRecordsTheRest() {
+        job(1, List.of("a", "b"), List.of("a"));
+        ArticleStockImpactEntity impact = ArticleStockImpactEntity.builder().id("b").build();
+        when(impactRepository.findAllWithArticleAndStockByIdIn(List.of("b"))).thenReturn(List.of(impact));
+        doAnswer(invocation -> {
+            ObjIntConsumer<ArticleStockImpactEntity> onNotified = invocation.getArgument(1);
+            onNotified.accept(impact, 2);
+            return 2;
+        }).when(impactNotifier).notifyFollowers(eq(List.of(impact)), any());
+
+        queue.resubmitStale();
+
+        verify(jobRepository, timeout(1000)).finish(eq(JOB_ID), eq(ImpactNotificationJobStatus.COMPLETED), isNull(), any());
+        verify(jobRepository).markNotified(JOB_ID, "b", 2);
+    }
+
+    @Test
+    void retriesFailedJobWithBackoff() {
+        job(1, List.of("a"), List.of());
+        when(impactNotifier.notifyFollowers(any(), any())).thenThrow(new IllegalStateException("push service down"));
+
+        Date before = new Date();
+        queue.resubmitStale();
+
+        verify(jobRepository, timeout(1000)).retry(eq(JOB_ID), eq(ImpactNotificationJobStatus.QUEUED), eq("push service down"),
+                argThat(next -> next.getTime() >= before.getTime() + 29_000));
+        verify(jobRepository, never()).finish(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void failsJobOnLastAttempt() {
+        job(3, List.of("a"), List.of());
+        when(impactNotifier.notifyFollowers(any(), any())).thenThrow(new IllegalStateException("push service down"));
+
+        queue.resubmitStale();
+
+        verify(jobRepository, timeout(1000)).finish(eq(JOB_ID), eq(ImpactNotificationJobStatus.FAILED), eq("push service down"), any());
+        verify(jobRepository, never()).retry(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void sweepRequeuesOrFailsStaleJobsByAttempts() {
+        when(jobRepository.findDueIds(any(), any(), any(), any())).thenReturn(List.of());
+
+        queue.resubmitStale();
+
+        verify(jobRepository).requeueStale(eq(ImpactNotificationJobStatus.QUEUED), eq(ImpactNotificationJobStatus.RUNNING), any(), eq(3));
+        verify(jobRepository).failStale(eq(ImpactNotificationJobStatus.FAILED), eq(ImpactNotificationJobStatus.RUNNING), any(), eq(3),
+                anyString(), any());
+        verify(jobRepository, never()).markNotified(anyString(), anyString(), anyInt());
+    }
+
+    private void job(int attempts, List<String> impactIds, List<String> notifiedImpactIds) {
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(ImpactNotificationJobEntity.builder()
+                .id(JOB_ID)
+                .status(ImpactNotificationJobStatus.RUNNING)
+                .impactIds(impactIds)
+                .notifiedImpactIds(notifiedImpactIds)
+                .attempts(attempts)
+                .createdAt(new Date())
+                .build()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.backend.domain.service.stock.matcher;
+
+import com.example.backend.infrastructure.database.entity.StockEntity;
+import com.example.backend.infrastructure.database.projection.StockAliasView;
+import com.example.backend.infrastructure.database.repository.StockJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StockMentionMatcherTest {
+
+    private StockMentionMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        StockJpaRepository repository = mock(StockJpaRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                stock("kgh", "KGH", "KGHM Polska Miedź SA"),
+                stock("pkn", "PKN", "Orlen SA"),
+                stock("pko", "PKO", "PKO Bank Polski SA"),
+                stock("amb", "AMB", "Ambra SA"),
+                stock("11b", "11B", "11 bit studios SA"),
+                stock("cdr", "CD", "CD Projekt SA"),
+                stock("efk", "EFK", "Efekt SA"),
+                stock("moj", "MOJ", "MOJ SA"),
+                stock("bst", "BST", "Best SA")
+        ));
+        when(repository.findAllAliases()).thenReturn(List.of(alias("kgh", "KGHM"), alias("pko", "PKO BP")));
+        when(repository.stocksFingerprint()).thenReturn("v1");
+        matcher = new StockMentionMatcher(repository);
+        ReflectionTestUtils.setField(matcher, "minSymbolLength", 2);
+        assertFalse(matcher.isLoaded());
+        assertEquals(Set.of(), matcher.match("Orlen podał wyniki"));
+        matcher.load();
+        assertTrue(matcher.isLoaded());
+    }
+
+    @Test
+    void matchesInflectedNamesAndAliases() {
+        assertEquals(Set.of("pkn", "pko"), matcher.match("Akcje Orlenu tanieją, a PKO BP zyskuje"));
+        assertEquals(Set.of("amb"), matcher.match("Sprzedaż Ambry rośnie"));
+        assertEquals(Set.of("kgh"), matcher.match("Zysk KGHM-u wzrósł"));
+        assertEquals(Set.of("11b"), matcher.match("Nowa gra 11 bit studios"));
+    }
+
+    @Test
+    void matchesSymbolsOnlyInUpperCase() {
+        assertEquals(Set.of("kgh"), matcher.match("Kurs KGH w górę"));
+        assertEquals(Set.of(), matcher.match("pko i kgh małymi literami"));
+    }
+
+    @Test
+    void matchesTwoLetterSymbolsAsWholeWords() {
+        assertEquals(Set.of("cdr"), matcher.match("Kurs CD spada"));
+        assertEquals(Set.of(), matcher.match("Kurs CDA i cd spada"));
+    }
+
+    @Test
+    void ignoresWordsThatOnlyStartWithAName() {
+        assertEquals(Set.of(), matcher.match("Ambrozja i orlenowski festiwal"));
+    }
+
+    @Test
+    void matchesSingleWordNamesOnlyWhenCapitalized() {
+        assertEquals(Set.of(), matcher.match("Wyniki: mój najlepszy efekt, best of the best"));
+        assertEquals(Set.of("efk", "bst"), matcher.match("Efekt i Best podały wyniki"));
+        assertEquals(Set.of("moj"), matcher.match("Kurs MOJ w górę"));
+    }
+
+    @Test
+    void searchesTitleAndDescription() {
+        assertEquals(Set.of("pkn", "kgh"), matcher.match("Orlen podał wyniki", "Lepiej od KGHM"));
+    }
+
+    private static StockEntity stock(String id, String symbol, String name) {
+        return StockEntity.builder().id(id).symbol(symbol).name(name).build();
+    }
+
+    private static StockAliasView alias(String stockId, String alias) {
+        return new StockAliasView() {
+            @Override
+            public String getStockId() {
+                return stockId;
+            }
+
+            @Override
+            public String getAlias() {
+                return alias;
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.backend.domain.service.stock.search;
+
+import com.example.backend.infrastructure.database.entity.StockEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StockSearchIndexTest {
+
+    private final StockSearchIndex index = new StockSearchIndex(List.of(
+            stock("1", "ALR", "Alior Bank SA", "Polska", "GPW"),
+            stock("2", "ALE", "Allegro.eu SA", "Luksemburg", "GPW"),
+            stock("3", "KGH", "KGHM Polska Miedź SA", "Polska", "GPW"),
+            stock("4", "PKO", "PKO Bank Polski SA", "Polska", "GPW"),
+            stock("5", "BAL", "Balticon SA", "Polska", "NewConnect"),
+            stock("6", "MAB", "Mabion SA", "Polska", "GPW"),
+            stock("7", "ALRT", "Alert Systems SA", "Polska", "NewConnect")
+    ));
+
+    @Test
+    void ranksExactSymbolThenPrefixThenSubstring() {
+        assertEquals(List.of("ALR", "ALRT"), symbols(search("alr")));
+        assertEquals(List.of("KGH", "PKO", "ALR", "BAL", "MAB", "ALRT"), symbols(search("pol")));
+    }
+
+    @Test
+    void matchesShortQueriesOnWordPrefixesOnly() {
+        assertEquals(List.of("ALR", "ALE", "ALRT"), symbols(search("al")));
+        assertEquals(List.of(), symbols(search("ab")));
+        assertEquals(List.of("MAB"), symbols(search("abi")));
+    }
+
+    @Test
+    void foldsCaseAndDiacritics() {
+        assertEquals(List.of("KGH"), symbols(search("MIEDZ")));
+        assertEquals(List.of("KGH"), symbols(search("miedź")));
+    }
+
+    @Test
+    void countsFacetsIgnoringTheirOwnFilter() {
+        StockSearchIndex.Facets facets = index.facets(new StockSearchIndex.Query(null, null, null, "polska", "gpw", null));
+
+        assertEquals(4, facets.total());
+        assertEquals(Map.of("Polska", 4, "Luksemburg", 1), facets.countries());
+        assertEquals(Map.of("GPW", 4, "NewConnect", 2), facets.exchanges());
+    }
+
+    private List<StockEntity> search(String text) {
+        return index.search(new StockSearchIndex.Query(text, null, null, null, null, null));
+    }
+
+    private static List<String> symbols(List<StockEntity> stocks) {
+        return stocks.stream().map(StockEntity::getSymbol).toList();
+    }
+
+    private static StockEntity stock(String id, String symbol, String name, String country, String exchange) {
+        return StockEntity.builder().id(id).symbol(symbol).name(name).country(country).exchange(exchange).build();
+    }
+}
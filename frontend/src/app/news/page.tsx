@@ -13,7 +13,7 @@ import useStore from "@/store/useStore";
 
 interface FetchResponse {
   data: News[];
-  nextPage: number | null | undefined; // The page number for the *next* fetch, or null/undefined if no more pages
+  nextPage: string | undefined; // The cursor for the *next* fetch (X-Next-Cursor header), or undefined if no more pages
 }
 
 export default function NewsPage() {
@@ -29,23 +29,22 @@ export default function NewsPage() {
   const filtersOpen = useStore((state) => state.filtersOpen);
   const setFiltersOpen = useStore((state) => state.setFiltersOpen);
 
-  const fetchNews = async ({ pageParam = 0 }): Promise<FetchResponse> => {
+  const fetchNews = async ({ pageParam = "" }): Promise<FetchResponse> => {
     const filteredSearchParams = Object.fromEntries(
       Object.entries(searchParams).filter(([_, value]) => value !== "")
     );
     const params = new URLSearchParams({
-      page: String(pageParam),
       ...filteredSearchParams,
+      ...(pageParam ? { cursor: pageParam } : {}),
     });
     try {
       const response = await axios.get(`/articles?${params.toString()}`);
 
       const articles = response.data || [];
-      const hasMore = articles.length > 0;
       console.log(articles);
       return {
         data: articles,
-        nextPage: hasMore ? pageParam + 1 : undefined,
+        nextPage: response.headers["x-next-cursor"] || undefined,
       };
     } catch (err) {
       console.error("Error fetching news:", err);
@@ -20,7 +20,7 @@ import useUserStockStore from "@/store/useUserStockStore";
 
 interface FetchResponse {
   data: News[];
-  nextPage: number | null | undefined; // The page number for the *next* fetch, or null/undefined if no more pages
+  nextPage: string | undefined; // The cursor for the *next* fetch (X-Next-Cursor header), or undefined if no more pages
 }
 
 const fetchStock = async (symbol: string): Promise<Stock> => {
@@ -55,20 +55,17 @@ export default function StockDetail() {
     // triggerOnce: false // Keep observing even after it becomes visible once
   });
 
-  const fetchNews = async ({ pageParam = 0 }): Promise<FetchResponse> => {
-    const params = new URLSearchParams({
-      page: String(pageParam),
-    });
+  const fetchNews = async ({ pageParam = "" }): Promise<FetchResponse> => {
+    const params = new URLSearchParams(pageParam ? { cursor: pageParam } : {});
     try {
       const response = await axios.get(
         `/articles/stock/${id}?${params.toString()}`
       );
 
       const articles = response.data || [];
-      const hasMore = articles.length > 0;
       return {
         data: articles,
-        nextPage: hasMore ? pageParam + 1 : undefined,
+        nextPage: response.headers["x-next-cursor"] || undefined,
       };
     } catch (err) {
       console.error("Error fetching news:", err);
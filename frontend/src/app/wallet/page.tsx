@@ -17,7 +17,7 @@ import useStore from "@/store/useStore";
 
 interface FetchResponse {
   data: News[];
-  nextPage: number | null | undefined; // The page number for the *next* fetch, or null/undefined if no more pages
+  nextPage: string | undefined; // The cursor for the *next* fetch (X-Next-Cursor header), or undefined if no more pages
 }
 
 const fetchStocks = async () => {
@@ -41,13 +41,13 @@ const Wallet = () => {
   const filtersOpen = useStore((state) => state.filtersOpen);
   const setFiltersOpen = useStore((state) => state.setFiltersOpen);
 
-  const fetchNews = async ({ pageParam = 0 }): Promise<FetchResponse> => {
+  const fetchNews = async ({ pageParam = "" }): Promise<FetchResponse> => {
     const filteredSearchParams = Object.fromEntries(
       Object.entries(searchParams).filter(([_, value]) => value !== "")
     );
     const params = new URLSearchParams({
-      page: String(pageParam),
       ...filteredSearchParams,
+      ...(pageParam ? { cursor: pageParam } : {}),
     });
     console.log(params.toString());
     try {
@@ -56,11 +56,10 @@ const Wallet = () => {
       );
 
       const articles = response.data || [];
-      const hasMore = articles.length > 0;
       console.log(articles);
       return {
         data: articles,
-        nextPage: hasMore ? pageParam + 1 : undefined,
+        nextPage: response.headers["x-next-cursor"] || undefined,
       };
     } catch (err) {
       console.error("Error fetching news:", err);